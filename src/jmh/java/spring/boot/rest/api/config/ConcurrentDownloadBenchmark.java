@@ -0,0 +1,129 @@
+package spring.boot.rest.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConcurrentDownloadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int CHUNKS = 8;
+    private static final long CHUNK_LATENCY_MS = 10;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"1000"})
+    private int downloads;
+
+    private HikariDataSource pool;
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:mysql://localhost:3306/spring_boot_demo_test");
+        pool.setUsername("user");
+        pool.setPassword("1234");
+        pool.setMaximumPoolSize(POOL_SIZE);
+        if ("virtual".equals(threads)) {
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            dataSource = new BoundedDataSource(pool, POOL_SIZE, Duration.ofSeconds(30));
+        } else {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            dataSource = pool;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+        pool.close();
+    }
+
+    @Benchmark
+    public long concurrentSlowDownloads() {
+        final var futures = new ArrayList<CompletableFuture<Long>>(downloads);
+        for (int i = 0; i < downloads; i++) {
+            futures.add(CompletableFuture.supplyAsync(this::download, executor));
+        }
+        return futures.stream().mapToLong(CompletableFuture::join).sum();
+    }
+
+    private long download() {
+        try (final var connection = dataSource.getConnection();
+             final var statement = connection.prepareStatement("SELECT 1")) {
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        try (final var content = new SlowObjectStream()) {
+            return content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class SlowObjectStream extends InputStream {
+        private int chunksLeft = CHUNKS;
+        private int bytesLeftInChunk;
+
+        @Override
+        public int read() throws IOException {
+            final var buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : buffer[0];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (bytesLeftInChunk == 0) {
+                if (chunksLeft == 0) {
+                    return -1;
+                }
+                chunksLeft--;
+                bytesLeftInChunk = CHUNK_SIZE;
+                try {
+                    Thread.sleep(CHUNK_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            final var read = Math.min(length, bytesLeftInChunk);
+            bytesLeftInChunk -= read;
+            return read;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package spring.boot.rest.api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import spring.boot.rest.api.SpringBootRestApiApplication;
+import spring.boot.rest.api.model.Event;
+import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.model.Role;
+import spring.boot.rest.api.model.Status;
+import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.EventRepo;
+import spring.boot.rest.api.repository.FileRepo;
+import spring.boot.rest.api.repository.UserRepo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DownloadOwnershipBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int eventCount;
+
+    private ConfigurableApplicationContext context;
+    private EventRepo eventRepo;
+    private FileRepo fileRepo;
+    private UserRepo userRepo;
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private String location;
+    private final List<File> files = new ArrayList<>();
+    private final List<Event> events = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SpringBootRestApiApplication.class)
+                .profiles("test")
+                .properties("server.port=0",
+                        "logging.level.root=OFF",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        eventRepo = context.getBean(EventRepo.class);
+        fileRepo = context.getBean(FileRepo.class);
+        userRepo = context.getBean(UserRepo.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        final var now = LocalDateTime.now();
+        user = userRepo.save(User.builder()
+                .firstName("benchmark")
+                .lastName("benchmark")
+                .email(UUID.randomUUID() + "@benchmark.com")
+                .password("benchmark")
+                .role(Role.USER)
+                .createdAt(now)
+                .updatedAt(now)
+                .status(Status.ACTIVE)
+                .build());
+        for (int i = 0; i < eventCount; i++) {
+            final var key = UUID.randomUUID().toString();
+            files.add(File.builder()
+                    .name("benchmark.txt")
+                    .s3Secret(key)
+                    .s3Bucket("benchmark")
+                    .location(key)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .status(Status.ACTIVE)
+                    .build());
+        }
+        fileRepo.saveAll(files);
+        location = files.get(files.size() - 1).getLocation();
+        transactionTemplate.executeWithoutResult(transaction -> {
+            final var managedUser = userRepo.getReferenceById(user.getId());
+            files.forEach(file -> events.add(Event.builder()
+                    .name(UUID.randomUUID().toString())
+                    .user(managedUser)
+                    .file(fileRepo.getReferenceById(file.getId()))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .status(Status.ACTIVE)
+                    .build()));
+            eventRepo.saveAll(events);
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventRepo.deleteAllInBatch(events);
+        fileRepo.deleteAllInBatch(files);
+        userRepo.delete(user);
+        context.close();
+    }
+
+    @Benchmark
+    public Boolean walkOfUserEvents() {
+        return transactionTemplate.execute(transaction -> userRepo.findByEmail(user.getEmail())
+                .map(User::getEvents)
+                .orElseThrow()
+                .stream()
+                .map(Event::getFile)
+                .anyMatch(file -> Objects.equals(file.getLocation(), location)
+                        && Objects.equals(file.getStatus(), Status.ACTIVE)));
+    }
+
+    @Benchmark
+    public boolean indexedOwnershipQuery() {
+        return eventRepo.existsActiveFileByUserEmailAndLocation(user.getEmail(), location);
+    }
+}
@@ -0,0 +1,4 @@
+package spring.boot.rest.api.config;
+
+public record ArchiveEntry(String name, String bucketName, String key) {
+}
@@ -0,0 +1,18 @@
+package spring.boot.rest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.zip.Deflater;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "storage.archive")
+public class ArchiveProperties {
+    private int prefetch = 4;
+    private int maxEntries = 1000;
+    private int compressionLevel = Deflater.BEST_SPEED;
+    private int executorThreads = 8;
+    private int executorQueueCapacity = 32;
+}
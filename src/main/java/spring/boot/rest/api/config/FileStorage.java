@@ -0,0 +1,30 @@
+package spring.boot.rest.api.config;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface FileStorage {
+    String putObject(String bucketName, String key, byte[] file);
+
+    String putObject(String bucketName, String key, InputStream content, long contentLength);
+
+    StorageObject getObject(String bucketName, String key, String range, String ifRange);
+
+    String copyObject(String sourceBucket, String sourceKey, String targetBucket, String targetKey);
+
+    void deleteObject(String bucketName, String key);
+
+    List<String> deleteObjects(String bucketName, List<String> keys);
+
+    String getObjectUrl(String bucketName, String key);
+
+    Optional<Long> getObjectSize(String bucketName, String key);
+
+    PresignedUrl presignPutObject(String bucketName, String key, long contentLength);
+
+    PresignedUrl presignGetObject(String bucketName, String key, String fileName);
+
+    default void evictFromCache(String bucketName, String key) {
+    }
+}
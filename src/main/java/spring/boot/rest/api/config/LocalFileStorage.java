@@ -0,0 +1,290 @@
+package spring.boot.rest.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import spring.boot.rest.api.exception.FileException;
+import spring.boot.rest.api.exception.NotFoundException;
+import spring.boot.rest.api.exception.NotImplementException;
+import spring.boot.rest.api.exception.RangeNotSatisfiableException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static spring.boot.rest.api.util.Constants.*;
+import static spring.boot.rest.api.util.HashUtil.sha256Hex;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = STORAGE_TYPE, havingValue = STORAGE_TYPE_LOCAL)
+public class LocalFileStorage implements FileStorage {
+
+    private final LocalStorageProperties properties;
+    private Path root;
+    private Path staging;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(properties.getDirectory()).toAbsolutePath();
+        staging = Files.createDirectories(root.resolve(LOCAL_STORAGE_STAGING_DIRECTORY));
+        log.info("IN init() -> local file storage in '{}'", root);
+    }
+
+    @Override
+    public String putObject(String bucketName, String key, byte[] file) {
+        return putObject(bucketName, key, new ByteArrayInputStream(file), file.length);
+    }
+
+    @Override
+    public String putObject(String bucketName, String key, InputStream content, long contentLength) {
+        log.info("IN putObject() -> writing '{}' bytes to the local storage...", contentLength);
+        final var target = resolve(bucketName, key);
+        final var staged = createStagingFile();
+        try (var channel = FileChannel.open(staged, WRITE)) {
+            final var source = Channels.newChannel(content);
+            var written = 0L;
+            while (written < contentLength) {
+                final var transferred = channel.transferFrom(source, written, contentLength - written);
+                if (transferred == 0) {
+                    throw new FileException(format(UNEXPECTED_END_OF_LOCAL_UPLOAD_STREAM, key, written, contentLength));
+                }
+                written += transferred;
+            }
+            if (content.read() != -1) {
+                throw new FileException(format(LOCAL_UPLOAD_STREAM_LONGER_THAN_DECLARED, key, contentLength));
+            }
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(staged);
+            throw e instanceof FileException fileException ? fileException : new FileException(FAILED_TO_WRITE_LOCAL_OBJECT, e);
+        }
+        commit(staged, target);
+        log.info("IN putObject() -> wrote the object to the local storage -> SUCCESSFULLY");
+        return getObjectUrl(target);
+    }
+
+    @Override
+    public StorageObject getObject(String bucketName, String key, String range, String ifRange) {
+        log.info("IN getObject() -> reading from the local storage with range '{}'...", range);
+        final var path = resolve(bucketName, key);
+        final long size;
+        final Instant lastModified;
+        try {
+            final var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            size = attributes.size();
+            lastModified = attributes.lastModifiedTime().toInstant();
+        } catch (NoSuchFileException e) {
+            throw new NotFoundException(FILE_NOT_EXISTS);
+        } catch (IOException e) {
+            throw new FileException(FAILED_TO_READ_LOCAL_OBJECT, e);
+        }
+        final var eTag = format(LOCAL_ETAG_FORMAT, size, lastModified.toEpochMilli());
+        var start = 0L;
+        var end = size - ONE;
+        String contentRange = null;
+        final var singleRange = singleRange(range);
+        if (singleRange != null && ifRangeMatches(ifRange, eTag, lastModified)) {
+            try {
+                final var byteRange = singleRange.get(0);
+                start = byteRange.getRangeStart(size);
+                end = byteRange.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                throw new RangeNotSatisfiableException(format(RANGE_NOT_SATISFIABLE, range), e);
+            }
+            if (start >= size || start > end) {
+                throw new RangeNotSatisfiableException(format(RANGE_NOT_SATISFIABLE, range));
+            }
+            contentRange = format(CONTENT_RANGE_FORMAT, start, end, size);
+        }
+        final var position = start;
+        final var count = end - start + ONE;
+        log.info("IN getObject() -> resolved the local object -> SUCCESSFULLY");
+        return StorageObject.builder()
+                .contentLength(count)
+                .totalLength(size)
+                .contentRange(contentRange)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .body(outputStream -> {
+                    try (var channel = FileChannel.open(path, READ)) {
+                        final var target = Channels.newChannel(outputStream);
+                        final var limit = position + count;
+                        var current = position;
+                        while (current < limit) {
+                            final var chunk = Math.min(properties.getMapChunkSize(), limit - current);
+                            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, current, chunk);
+                            while (buffer.hasRemaining()) {
+                                target.write(buffer);
+                            }
+                            current += chunk;
+                        }
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String copyObject(String sourceBucket, String sourceKey, String targetBucket, String targetKey) {
+        log.info("IN copyObject() -> copying in the local storage...");
+        final var target = resolve(targetBucket, targetKey);
+        final var staged = createStagingFile();
+        try {
+            Files.copy(resolve(sourceBucket, sourceKey), staged, REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            deleteQuietly(staged);
+            throw new NotFoundException(FILE_NOT_EXISTS);
+        } catch (IOException e) {
+            deleteQuietly(staged);
+            throw new FileException(FAILED_TO_WRITE_LOCAL_OBJECT, e);
+        }
+        commit(staged, target);
+        log.info("IN copyObject() -> copied the object -> SUCCESSFULLY");
+        return getObjectUrl(target);
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        log.info("IN deleteObject() -> deleting from the local storage...");
+        try {
+            Files.deleteIfExists(resolve(bucketName, key));
+        } catch (IOException e) {
+            throw new FileException(FAILED_TO_WRITE_LOCAL_OBJECT, e);
+        }
+        log.info("IN deleteObject() -> deleted the object -> SUCCESSFULLY");
+    }
+
+    @Override
+    public List<String> deleteObjects(String bucketName, List<String> keys) {
+        log.info("IN deleteObjects() -> deleting '{}' objects from the local storage...", keys.size());
+        final List<String> deleted = new ArrayList<>(keys.size());
+        for (final var key : keys) {
+            try {
+                Files.deleteIfExists(resolve(bucketName, key));
+                deleted.add(key);
+            } catch (IOException e) {
+                log.warn("IN deleteObjects() -> can't delete '{}'", key, e);
+            }
+        }
+        log.info("IN deleteObjects() -> deleted '{}' objects -> SUCCESSFULLY", deleted.size());
+        return deleted;
+    }
+
+    @Override
+    public String getObjectUrl(String bucketName, String key) {
+        return getObjectUrl(resolve(bucketName, key));
+    }
+
+    @Override
+    public Optional<Long> getObjectSize(String bucketName, String key) {
+        try {
+            return Optional.of(Files.size(resolve(bucketName, key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new FileException(FAILED_TO_READ_LOCAL_OBJECT, e);
+        }
+    }
+
+    @Override
+    public PresignedUrl presignPutObject(String bucketName, String key, long contentLength) {
+        throw new NotImplementException(format(NOT_IMPLEMENT_EXCEPTION, TEXT_PRESIGN_PUT_OBJECT));
+    }
+
+    @Override
+    public PresignedUrl presignGetObject(String bucketName, String key, String fileName) {
+        throw new NotImplementException(format(NOT_IMPLEMENT_EXCEPTION, TEXT_PRESIGN_GET_OBJECT));
+    }
+
+    private Path resolve(String bucketName, String key) {
+        final var hash = sha256Hex(bucketName + SLASH + key);
+        var path = root.resolve(bucketName);
+        for (int level = 0; level < properties.getShardDepth(); level++) {
+            path = path.resolve(hash.substring(level * properties.getShardWidth(), (level + 1) * properties.getShardWidth()));
+        }
+        return path.resolve(hash);
+    }
+
+    private Path createStagingFile() {
+        try {
+            return Files.createTempFile(staging, UPLOAD_TEMP_PREFIX, UPLOAD_TEMP_SUFFIX);
+        } catch (IOException e) {
+            throw new FileException(FAILED_TO_WRITE_LOCAL_OBJECT, e);
+        }
+    }
+
+    private void commit(Path staged, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(staged, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(staged);
+            throw new FileException(FAILED_TO_WRITE_LOCAL_OBJECT, e);
+        }
+    }
+
+    private List<HttpRange> singleRange(String range) {
+        if (range == null) {
+            return null;
+        }
+        try {
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == ONE ? ranges : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("IN singleRange() -> ignoring invalid range '{}'", range);
+            return null;
+        }
+    }
+
+    private boolean ifRangeMatches(String ifRange, String eTag, Instant lastModified) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            return false;
+        }
+        if (ifRange.startsWith(ETAG_QUOTE)) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            final var date = ZonedDateTime.parse(ifRange, RFC_1123_DATE_TIME).toInstant();
+            return lastModified.getEpochSecond() <= date.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private String getObjectUrl(Path path) {
+        return path.toUri().toString();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("IN deleteQuietly() -> can't delete the staged file '{}'", path, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package spring.boot.rest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import static java.lang.String.format;
+import static spring.boot.rest.api.util.Constants.*;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "storage.local")
+public class LocalStorageProperties implements Validator {
+    private String directory = System.getProperty("java.io.tmpdir") + "/local-storage";
+    private int shardDepth = 2;
+    private int shardWidth = 2;
+    private long mapChunkSize = 64L * 1024 * 1024;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return LocalStorageProperties.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        final var properties = (LocalStorageProperties) target;
+        if (properties.getShardDepth() < 0) {
+            errors.rejectValue(FIELD_NAME_SHARD_DEPTH, INVALID_LOCAL_STORAGE_PROPERTY, INVALID_SHARD_DEPTH);
+        }
+        if (properties.getShardWidth() < 1) {
+            errors.rejectValue(FIELD_NAME_SHARD_WIDTH, INVALID_LOCAL_STORAGE_PROPERTY, INVALID_SHARD_WIDTH);
+        } else if ((long) properties.getShardDepth() * properties.getShardWidth() > SHA256_HEX_LENGTH) {
+            errors.rejectValue(FIELD_NAME_SHARD_DEPTH, INVALID_LOCAL_STORAGE_PROPERTY,
+                    format(SHARD_PREFIX_TOO_LONG, SHA256_HEX_LENGTH));
+        }
+        if (properties.getMapChunkSize() < 1 || properties.getMapChunkSize() > Integer.MAX_VALUE) {
+            errors.rejectValue(FIELD_NAME_MAP_CHUNK_SIZE, INVALID_LOCAL_STORAGE_PROPERTY,
+                    format(INVALID_MAP_CHUNK_SIZE, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package spring.boot.rest.api.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static spring.boot.rest.api.util.Constants.NEW_LINE;
+
+@Slf4j
+@Component
+public class NdjsonStreamer {
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int flushInterval;
+
+    public NdjsonStreamer(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                          @Value("${export.flush-interval:1000}") int flushInterval) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.flushInterval = flushInterval;
+    }
+
+    public <T> StreamingResponseBody stream(Supplier<Stream<T>> rows, Function<T, ?> view) {
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            log.info("IN stream() -> streaming rows as NDJSON...");
+            var written = 0L;
+            try (final var generator = objectMapper.getFactory().createGenerator(outputStream);
+                 final var stream = rows.get()) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                final var iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(view.apply(iterator.next()));
+                    generator.writeRaw(NEW_LINE);
+                    if (++written % flushInterval == 0) {
+                        generator.flush();
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("IN stream() -> the client went away after '{}' rows", written);
+                throw new UncheckedIOException(e);
+            }
+            log.info("IN stream() -> streamed '{}' rows -> SUCCESSFULLY", written);
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package spring.boot.rest.api.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class PresignedUrl {
+    private final String key;
+    private final String url;
+    private final String method;
+    private final Instant expiresAt;
+    private final Map<String, List<String>> signedHeaders;
+}
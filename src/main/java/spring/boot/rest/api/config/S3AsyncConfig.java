@@ -0,0 +1,36 @@
+package spring.boot.rest.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+import static spring.boot.rest.api.util.Constants.S3_ASYNC_ENABLED;
+
+@Configuration
+@ConditionalOnExpression(S3_ASYNC_ENABLED)
+public class S3AsyncConfig {
+
+    @Value("${aws.region}")
+    private String awsRegion;
+
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(S3AsyncProperties properties) {
+        return S3AsyncClient.crtBuilder()
+                .region(Region.of(awsRegion))
+                .targetThroughputInGbps(properties.getTargetThroughputInGbps())
+                .minimumPartSizeInBytes(properties.getMinimumPartSizeInBytes())
+                .maxConcurrency(properties.getMaxConcurrency())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
+        return S3TransferManager.builder()
+                .s3Client(s3AsyncClient)
+                .build();
+    }
+}
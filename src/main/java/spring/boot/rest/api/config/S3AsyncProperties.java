@@ -0,0 +1,15 @@
+package spring.boot.rest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.async")
+public class S3AsyncProperties {
+    private boolean enabled;
+    private double targetThroughputInGbps = 10.0;
+    private long minimumPartSizeInBytes = 8L * 1024 * 1024;
+    private int maxConcurrency = 64;
+}
@@ -0,0 +1,146 @@
+package spring.boot.rest.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.CopyRequest;
+import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
+import spring.boot.rest.api.exception.RangeNotSatisfiableException;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.lang.String.format;
+import static spring.boot.rest.api.util.Constants.RANGE_NOT_SATISFIABLE;
+import static spring.boot.rest.api.util.Constants.S3_ASYNC_ENABLED;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnExpression(S3_ASYNC_ENABLED)
+public class S3AsyncService {
+
+    private final S3AsyncClient s3;
+    private final S3Client s3Client;
+    private final S3TransferManager transferManager;
+    private final S3ObjectCache cache;
+    private final S3Service s3Service;
+
+    public CompletableFuture<String> putObject(String bucketName, String key, Path source) {
+        log.info("IN putObject() async -> uploading '{}'...", key);
+        final var request = UploadFileRequest.builder()
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build())
+                .source(source)
+                .build();
+        return transferManager.uploadFile(request)
+                .completionFuture()
+                .thenApply(completed -> {
+                    cache.invalidate(bucketName, key);
+                    log.info("IN putObject() async -> uploaded '{}' -> SUCCESSFULLY", key);
+                    return getObjectUrl(bucketName, key);
+                });
+    }
+
+    public CompletableFuture<StorageObject> getObject(String bucketName, String key, String range, String ifRange) {
+        log.info("IN getObject() async -> opening '{}' with range '{}'...", key, range);
+        final var cached = s3Service.getCachedObject(bucketName, key, range, ifRange);
+        if (cached.isPresent()) {
+            log.info("IN getObject() async -> served the object from the local cache -> SUCCESSFULLY");
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        final var generation = cache.generation();
+        final var singleRange = S3Service.singleRange(range);
+        final var requestBuilder = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key);
+        if (singleRange != null && S3Service.applyIfRange(requestBuilder, ifRange)) {
+            requestBuilder.range(singleRange);
+        }
+        return s3.getObject(requestBuilder.build(), AsyncResponseTransformer.toBlockingInputStream())
+                .thenApply(response -> {
+                    final var object = response.response();
+                    final var cacheable = object.contentRange() == null && cache.isCacheable(object.contentLength());
+                    log.info("IN getObject() async -> opened the object stream -> SUCCESSFULLY");
+                    return StorageObject.builder()
+                            .contentLength(object.contentLength())
+                            .totalLength(StorageObject.totalLength(object.contentLength(), object.contentRange()))
+                            .contentRange(object.contentRange())
+                            .eTag(object.eTag())
+                            .lastModified(object.lastModified())
+                            .body(outputStream -> {
+                                try (response) {
+                                    if (cacheable) {
+                                        cache.copyAndCache(bucketName, key, generation, response, outputStream,
+                                                object.eTag(), object.lastModified());
+                                    } else {
+                                        response.transferTo(outputStream);
+                                    }
+                                }
+                            })
+                            .abort(response::abort)
+                            .build();
+                })
+                .exceptionallyCompose(e -> {
+                    final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof S3Exception s3Exception
+                            && s3Exception.statusCode() == HttpStatus.PRECONDITION_FAILED.value()) {
+                        log.info("IN getObject() async -> If-Range validator does not match, sending the whole object...");
+                        return getObject(bucketName, key, null, null);
+                    }
+                    if (cause instanceof S3Exception s3Exception
+                            && s3Exception.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                        throw new RangeNotSatisfiableException(format(RANGE_NOT_SATISFIABLE, range), cause);
+                    }
+                    throw e instanceof CompletionException completionException ? completionException : new CompletionException(e);
+                });
+    }
+
+    public CompletableFuture<String> copyObject(String sourceBucket, String sourceKey, String targetBucket, String targetKey) {
+        log.info("IN copyObject() async -> copying '{}' to '{}'...", sourceKey, targetKey);
+        final var request = CopyRequest.builder()
+                .copyObjectRequest(CopyObjectRequest.builder()
+                        .sourceBucket(sourceBucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(targetBucket)
+                        .destinationKey(targetKey)
+                        .build())
+                .build();
+        return transferManager.copy(request)
+                .completionFuture()
+                .thenApply(completed -> {
+                    cache.invalidate(targetBucket, targetKey);
+                    log.info("IN copyObject() async -> copied the object -> SUCCESSFULLY");
+                    return getObjectUrl(targetBucket, targetKey);
+                });
+    }
+
+    public CompletableFuture<Void> deleteObject(String bucketName, String key) {
+        log.info("IN deleteObject() async -> deleting '{}'...", key);
+        return s3.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build())
+                .thenAccept(response -> {
+                    cache.invalidate(bucketName, key);
+                    log.info("IN deleteObject() async -> deleted the object -> SUCCESSFULLY");
+                });
+    }
+
+    private String getObjectUrl(String bucketName, String key) {
+        return s3Client.utilities().getUrl(GetUrlRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()).toString();
+    }
+}
@@ -0,0 +1,15 @@
+package spring.boot.rest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.cache")
+public class S3CacheProperties {
+    private boolean enabled;
+    private String directory = System.getProperty("java.io.tmpdir") + "/s3-object-cache";
+    private long maxSize = 1024L * 1024 * 1024;
+    private long maxEntrySize = 64L * 1024 * 1024;
+}
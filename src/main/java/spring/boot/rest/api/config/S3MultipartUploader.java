@@ -0,0 +1,234 @@
+package spring.boot.rest.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import spring.boot.rest.api.exception.FileException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static spring.boot.rest.api.util.Constants.*;
+
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    private final S3Client s3;
+    private final S3Properties s3Properties;
+    private final S3UploadProperties uploadProperties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService s3UploadExecutor;
+
+    public S3MultipartUploader(S3Client s3, S3Properties s3Properties,
+                               S3UploadProperties uploadProperties, MeterRegistry meterRegistry) {
+        this.s3 = s3;
+        this.s3Properties = s3Properties;
+        this.uploadProperties = uploadProperties;
+        this.meterRegistry = meterRegistry;
+        this.s3UploadExecutor = new ThreadPoolExecutor(
+                uploadProperties.getExecutorThreads(),
+                uploadProperties.getExecutorThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(uploadProperties.getExecutorQueueCapacity()),
+                new CustomizableThreadFactory(S3_UPLOAD_THREAD_PREFIX),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public boolean isMultipart(long contentLength) {
+        return contentLength >= uploadProperties.getMultipartThreshold();
+    }
+
+    public void upload(String bucketName, String key, InputStream content, long contentLength) {
+        log.info("IN upload() multipart -> '{}' bytes to '{}'...", contentLength, key);
+        if (contentLength > uploadProperties.getPartSize() * S3_MAX_PARTS) {
+            throw new FileException(format(UPLOAD_NEEDS_TOO_MANY_PARTS, key, S3_MAX_PARTS, uploadProperties.getPartSize()));
+        }
+        final var startedAt = System.nanoTime();
+        final var uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()).uploadId();
+        try {
+            final var parts = uploadParts(bucketName, key, uploadId, content, contentLength);
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (RuntimeException e) {
+            abort(bucketName, key, uploadId);
+            throw e;
+        }
+        record(UPLOAD_METRIC, contentLength, System.nanoTime() - startedAt);
+        log.info("IN upload() multipart -> '{}' uploaded in '{}' parts -> SUCCESSFULLY", key,
+                partCount(contentLength));
+    }
+
+    @Scheduled(initialDelayString = "${aws.s3.upload.stale-sweep-interval-ms:3600000}",
+            fixedDelayString = "${aws.s3.upload.stale-sweep-interval-ms:3600000}")
+    public void abortStaleUploads() {
+        final var bucketName = s3Properties.getCustomer();
+        final var cutoff = Instant.now().minus(uploadProperties.getStaleUploadAge());
+        log.info("IN abortStaleUploads() -> looking for uploads initiated before '{}'...", cutoff);
+        try {
+            final var aborted = s3.listMultipartUploadsPaginator(ListMultipartUploadsRequest.builder()
+                            .bucket(bucketName)
+                            .build())
+                    .uploads()
+                    .stream()
+                    .filter(upload -> upload.initiated().isBefore(cutoff))
+                    .filter(upload -> abort(bucketName, upload.key(), upload.uploadId()))
+                    .count();
+            log.info("IN abortStaleUploads() -> aborted '{}' uploads -> SUCCESSFULLY", aborted);
+        } catch (SdkException e) {
+            log.error("IN abortStaleUploads() -> FAILED", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s3UploadExecutor.shutdown();
+    }
+
+    private List<CompletedPart> uploadParts(String bucketName, String key, String uploadId,
+                                            InputStream content, long contentLength) {
+        final var inFlight = new Semaphore(uploadProperties.getPartConcurrency());
+        final List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        var remaining = contentLength;
+        try {
+            for (var partNumber = 1; remaining > 0; partNumber++) {
+                final var size = (int) Math.min(uploadProperties.getPartSize(), remaining);
+                inFlight.acquire();
+                if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    inFlight.release();
+                    break;
+                }
+                final var buffer = content.readNBytes(size);
+                if (buffer.length != size) {
+                    inFlight.release();
+                    throw new FileException(format(UNEXPECTED_END_OF_UPLOAD_STREAM, key, partNumber));
+                }
+                final var number = partNumber;
+                final var future = CompletableFuture
+                        .supplyAsync(() -> uploadPart(bucketName, key, uploadId, number, buffer), s3UploadExecutor);
+                future.whenComplete((part, e) -> inFlight.release());
+                futures.add(future);
+                remaining -= size;
+            }
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .sorted(Comparator.comparing(CompletedPart::partNumber))
+                    .toList();
+        } catch (IOException e) {
+            throw new FileException(ERROR_READ_FILE, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileException(format(FAILED_TO_UPLOAD_PART, key), e);
+        } catch (CompletionException e) {
+            throw new FileException(format(FAILED_TO_UPLOAD_PART, key), e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private CompletedPart uploadPart(String bucketName, String key, String uploadId, int partNumber, byte[] buffer) {
+        final var request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) buffer.length)
+                .build();
+        for (var attempt = 1; ; attempt++) {
+            final var startedAt = System.nanoTime();
+            try {
+                final var response = s3.uploadPart(request, RequestBody.fromContentProvider(
+                        () -> new ByteArrayInputStream(buffer), buffer.length, APPLICATION_OCTET_STREAM));
+                record(UPLOAD_PART_METRIC, buffer.length, System.nanoTime() - startedAt);
+                log.debug("IN uploadPart() -> part '{}' of '{}' -> uploaded SUCCESSFULLY", partNumber, key);
+                return CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build();
+            } catch (SdkException e) {
+                if (attempt >= uploadProperties.getMaxPartAttempts()) {
+                    log.error("IN uploadPart() -> part '{}' of '{}' -> FAILED after '{}' attempts", partNumber, key, attempt);
+                    throw e;
+                }
+                final var delay = backoffMillis(attempt);
+                log.warn("IN uploadPart() -> part '{}' of '{}' -> attempt '{}' FAILED, retrying in '{}' ms...",
+                        partNumber, key, attempt, delay);
+                sleep(key, delay);
+            }
+        }
+    }
+
+    long backoffMillis(int attempt) {
+        final var ceiling = Math.min(uploadProperties.getRetryMaxDelay().toMillis(),
+                uploadProperties.getRetryBaseDelay().toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(String key, long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileException(format(FAILED_TO_UPLOAD_PART, key), e);
+        }
+    }
+
+    private boolean abort(String bucketName, String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.info("IN abort() -> aborted upload '{}' of '{}'", uploadId, key);
+            return true;
+        } catch (SdkException e) {
+            log.error("IN abort() -> abort upload '{}' of '{}' -> FAILED", uploadId, key, e);
+            return false;
+        }
+    }
+
+    private void record(String metric, long bytes, long elapsedNanos) {
+        Timer.builder(metric + DURATION_SUFFIX)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(metric + THROUGHPUT_SUFFIX)
+                .baseUnit(BYTES_PER_SECOND)
+                .register(meterRegistry)
+                .record(bytes * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+    }
+
+    private long partCount(long contentLength) {
+        return (contentLength + uploadProperties.getPartSize() - 1) / uploadProperties.getPartSize();
+    }
+}
@@ -0,0 +1,247 @@
+package spring.boot.rest.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import spring.boot.rest.api.exception.FileException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static spring.boot.rest.api.util.Constants.*;
+import static spring.boot.rest.api.util.HashUtil.sha256Hex;
+
+@Slf4j
+@Component
+public class S3ObjectCache {
+
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile(CACHE_FILE_NAME_PATTERN);
+
+    private final S3CacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private long generation;
+    private Path directory;
+
+    public S3ObjectCache(S3CacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hits = meterRegistry.counter(S3_CACHE_METRIC + HITS_SUFFIX);
+        this.misses = meterRegistry.counter(S3_CACHE_METRIC + MISSES_SUFFIX);
+        this.evictions = meterRegistry.counter(S3_CACHE_METRIC + EVICTIONS_SUFFIX);
+        Gauge.builder(S3_CACHE_METRIC + SIZE_SUFFIX, this, S3ObjectCache::getUsedBytes)
+                .baseUnit(BYTES)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        directory = Path.of(properties.getDirectory());
+        Files.createDirectories(directory);
+        deleteLeftovers();
+        log.info("IN init() -> S3 object cache in '{}' with max size '{}' bytes", directory, properties.getMaxSize());
+    }
+
+    public Optional<Entry> get(String bucketName, String key) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        final Entry entry;
+        lock.lock();
+        try {
+            entry = entries.get(cacheKey(bucketName, key));
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry);
+    }
+
+    public boolean isCacheable(long contentLength) {
+        return properties.isEnabled() && contentLength <= properties.getMaxEntrySize();
+    }
+
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void copyAndCache(String bucketName, String key, long fetchedAtGeneration, InputStream source,
+                             OutputStream outputStream, String eTag, Instant lastModified) throws IOException {
+        final var temp = Files.createTempFile(directory, CACHE_TEMP_PREFIX, CACHE_TEMP_SUFFIX);
+        var size = 0L;
+        var complete = false;
+        try (var file = Files.newOutputStream(temp)) {
+            final var buffer = new byte[CACHE_BUFFER_SIZE];
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+                file.write(buffer, 0, read);
+                size += read;
+            }
+            complete = true;
+        } finally {
+            if (!complete) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        register(bucketName, key, fetchedAtGeneration, temp, size, eTag, lastModified);
+    }
+
+    public void invalidate(String bucketName, String key) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        final Entry removed;
+        lock.lock();
+        try {
+            generation++;
+            removed = entries.remove(cacheKey(bucketName, key));
+            if (removed != null) {
+                usedBytes -= removed.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed != null) {
+            log.info("IN invalidate() -> dropped the cached object '{}'", key);
+            deleteQuietly(removed.path());
+        }
+    }
+
+    public Optional<FileChannel> open(Entry entry) {
+        try {
+            return Optional.of(FileChannel.open(entry.path(), StandardOpenOption.READ));
+        } catch (NoSuchFileException e) {
+            log.debug("IN open() -> the cached file '{}' was evicted meanwhile", entry.path());
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new FileException(FAILED_TO_READ_CACHED_OBJECT, e);
+        }
+    }
+
+    public static void transfer(FileChannel channel, long position, long count, OutputStream outputStream) throws IOException {
+        try (channel) {
+            final var target = Channels.newChannel(outputStream);
+            final var end = position + count;
+            var current = position;
+            while (current < end) {
+                current += channel.transferTo(current, end - current, target);
+            }
+        }
+    }
+
+    public static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("IN closeQuietly() -> can't close the cached object channel", e);
+        }
+    }
+
+    private void register(String bucketName, String key, long fetchedAtGeneration, Path temp, long size,
+                          String eTag, Instant lastModified) throws IOException {
+        final var cacheKey = cacheKey(bucketName, key);
+        final var target = directory.resolve(cacheKey);
+        final List<Entry> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            if (fetchedAtGeneration != generation) {
+                log.debug("IN register() -> '{}' was invalidated while fetching, not caching", key);
+                Files.deleteIfExists(temp);
+                return;
+            }
+            Files.move(temp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+            final var previous = entries.put(cacheKey, new Entry(target, size, eTag, lastModified));
+            if (previous != null) {
+                usedBytes -= previous.size();
+            }
+            usedBytes += size;
+            final var iterator = entries.entrySet().iterator();
+            while (usedBytes > properties.getMaxSize() && iterator.hasNext()) {
+                final var eldest = iterator.next();
+                if (eldest.getKey().equals(cacheKey)) {
+                    continue;
+                }
+                iterator.remove();
+                usedBytes -= eldest.getValue().size();
+                evicted.add(eldest.getValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(entry -> {
+            evictions.increment();
+            deleteQuietly(entry.path());
+        });
+        log.debug("IN register() -> cached '{}' ('{}' bytes), evicted '{}' entries", key, size, evicted.size());
+    }
+
+    private void deleteLeftovers() throws IOException {
+        try (var files = Files.list(directory)) {
+            final var leftovers = files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> CACHE_FILE_NAME.matcher(path.getFileName().toString()).matches())
+                    .toList();
+            leftovers.forEach(this::deleteQuietly);
+            log.info("IN deleteLeftovers() -> deleted '{}' cached files of a previous run", leftovers.size());
+        }
+    }
+
+    private double getUsedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String cacheKey(String bucketName, String key) {
+        return sha256Hex(bucketName + SLASH + key);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("IN deleteQuietly() -> can't delete the cached file '{}'", path, e);
+        }
+    }
+
+    public record Entry(Path path, long size, String eTag, Instant lastModified) {
+    }
+}
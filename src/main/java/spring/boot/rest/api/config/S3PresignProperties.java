@@ -0,0 +1,16 @@
+package spring.boot.rest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.presign")
+public class S3PresignProperties {
+    private Duration uploadExpiration = Duration.ofMinutes(15);
+    private Duration downloadExpiration = Duration.ofMinutes(5);
+    private long maxUploadSize = 5L * 1024 * 1024 * 1024;
+}
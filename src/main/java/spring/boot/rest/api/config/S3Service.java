@@ -2,26 +2,50 @@ package spring.boot.rest.api.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import spring.boot.rest.api.exception.FileException;
+import spring.boot.rest.api.exception.RangeNotSatisfiableException;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
-import static spring.boot.rest.api.util.Constants.FAILED_TO_RAED_ALL_BYTES_WHEN_GET_OBJECT_TO_S3_SERVICE;
+import static java.lang.String.format;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static spring.boot.rest.api.util.Constants.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class S3Service {
+@ConditionalOnProperty(name = STORAGE_TYPE, havingValue = STORAGE_TYPE_S3, matchIfMissing = true)
+public class S3Service implements FileStorage {
 
     private final S3Client s3;
+    private final S3MultipartUploader multipartUploader;
+    private final S3ObjectCache cache;
+    private final S3Presigner presigner;
+    private final S3PresignProperties presignProperties;
 
+    @Override
     public String putObject(String bucketName, String key, byte[] file) {
         log.info("IN putObject() -> processing...");
         PutObjectRequest objectRequest = PutObjectRequest.builder()
@@ -29,31 +53,90 @@ public class S3Service {
                 .key(key)
                 .build();
         s3.putObject(objectRequest, RequestBody.fromBytes(file));
+        cache.invalidate(bucketName, key);
 
-        URL objectUrl = getObjectUrl(bucketName, key);
+        String objectUrl = getObjectUrl(bucketName, key);
 
         log.info("IN putObject() -> put the Object -> SUCCESSFULLY");
-        return objectUrl.toString();
+        return objectUrl;
     }
 
-    public byte[] getObject(String bucketName, String key){
-        log.info("IN getObject() -> processing...");
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+    @Override
+    public String putObject(String bucketName, String key, InputStream content, long contentLength) {
+        log.info("IN putObject() -> streaming '{}' bytes...", contentLength);
+        if (multipartUploader.isMultipart(contentLength)) {
+            multipartUploader.upload(bucketName, key, content, contentLength);
+            cache.invalidate(bucketName, key);
+            log.info("IN putObject() -> streamed the Object in parts -> SUCCESSFULLY");
+            return getObjectUrl(bucketName, key);
+        }
+        PutObjectRequest objectRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
                 .key(key)
+                .contentLength(contentLength)
                 .build();
-        ResponseInputStream<GetObjectResponse> response = s3.getObject(getObjectRequest);
+        s3.putObject(objectRequest, RequestBody.fromInputStream(content, contentLength));
+        cache.invalidate(bucketName, key);
 
+        String objectUrl = getObjectUrl(bucketName, key);
+
+        log.info("IN putObject() -> streamed the Object -> SUCCESSFULLY");
+        return objectUrl;
+    }
+
+    @Override
+    public StorageObject getObject(String bucketName, String key, String range, String ifRange) {
+        log.info("IN getObject() -> processing with range '{}'...", range);
+        final var cached = getCachedObject(bucketName, key, range, ifRange);
+        if (cached.isPresent()) {
+            log.info("IN getObject() -> served the object from the local cache -> SUCCESSFULLY");
+            return cached.get();
+        }
+        final var generation = cache.generation();
+        final var singleRange = singleRange(range);
+        final var requestBuilder = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key);
+        if (singleRange != null && applyIfRange(requestBuilder, ifRange)) {
+            requestBuilder.range(singleRange);
+        }
+        final ResponseInputStream<GetObjectResponse> response;
         try {
-            byte[] readAllBytes = response.readAllBytes();
-            log.info("IN getObject() -> got the object -> SUCCESSFULLY");
-            return readAllBytes;
-        } catch (IOException e) {
-            log.info("IN getObject() -> get the object -> FAILED");
-            throw new FileException(FAILED_TO_RAED_ALL_BYTES_WHEN_GET_OBJECT_TO_S3_SERVICE, e);
+            response = s3.getObject(requestBuilder.build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.PRECONDITION_FAILED.value()) {
+                log.info("IN getObject() -> If-Range validator does not match, sending the whole object...");
+                return getObject(bucketName, key, null, null);
+            }
+            if (e.statusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                throw new RangeNotSatisfiableException(format(RANGE_NOT_SATISFIABLE, range), e);
+            }
+            throw e;
         }
+        final var object = response.response();
+        final var cacheable = object.contentRange() == null && cache.isCacheable(object.contentLength());
+        log.info("IN getObject() -> opened the object stream -> SUCCESSFULLY");
+        return StorageObject.builder()
+                .contentLength(object.contentLength())
+                .totalLength(StorageObject.totalLength(object.contentLength(), object.contentRange()))
+                .contentRange(object.contentRange())
+                .eTag(object.eTag())
+                .lastModified(object.lastModified())
+                .body(outputStream -> {
+                    try (response) {
+                        if (cacheable) {
+                            cache.copyAndCache(bucketName, key, generation, response, outputStream,
+                                    object.eTag(), object.lastModified());
+                        } else {
+                            response.transferTo(outputStream);
+                        }
+                    }
+                })
+                .abort(response::abort)
+                .build();
     }
 
+    @Override
     public String copyObject(String sourceBucket, String sourceKey, String targetBucket, String targetKey) {
         log.info("IN copyObject() -> processing...");
         CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
@@ -63,13 +146,15 @@ public class S3Service {
                 .destinationKey(targetKey)
                 .build();
         s3.copyObject(copyObjectRequest);
+        cache.invalidate(targetBucket, targetKey);
 
-        URL objectUrl = getObjectUrl(sourceBucket, targetKey);
+        String objectUrl = getObjectUrl(sourceBucket, targetKey);
 
         log.info("IN copyObject() -> copied the object -> SUCCESSFULLY");
-        return objectUrl.toString();
+        return objectUrl;
     }
 
+    @Override
     public void deleteObject(String bucketName, String key) {
         log.info("IN deleteObject() -> processing...");
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -77,16 +162,206 @@ public class S3Service {
                 .key(key)
                 .build();
         s3.deleteObject(deleteObjectRequest);
+        cache.invalidate(bucketName, key);
         log.info("IN deleteObject() -> deleted the object -> SUCCESSFULLY");
     }
 
-    private URL getObjectUrl(String bucketName, String key) {
+    @Override
+    public List<String> deleteObjects(String bucketName, List<String> keys) {
+        log.info("IN deleteObjects() -> deleting '{}' objects...", keys.size());
+        final List<String> deleted = new ArrayList<>(keys.size());
+        for (var from = 0; from < keys.size(); from += MAX_DELETE_OBJECTS_BATCH) {
+            final var batch = keys.subList(from, Math.min(from + MAX_DELETE_OBJECTS_BATCH, keys.size()));
+            final var response = s3.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(batch.stream()
+                                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                                    .toList())
+                            .quiet(true)
+                            .build())
+                    .build());
+            response.errors().forEach(error ->
+                    log.warn("IN deleteObjects() -> can't delete '{}': {}", error.key(), error.message()));
+            final var failed = response.errors().stream()
+                    .map(S3Error::key)
+                    .collect(Collectors.toSet());
+            batch.forEach(key -> {
+                cache.invalidate(bucketName, key);
+                if (!failed.contains(key)) {
+                    deleted.add(key);
+                }
+            });
+        }
+        log.info("IN deleteObjects() -> deleted '{}' objects -> SUCCESSFULLY", deleted.size());
+        return deleted;
+    }
+
+    @Override
+    public Optional<Long> getObjectSize(String bucketName, String key) {
+        log.info("IN getObjectSize() -> processing...");
+        try {
+            final var object = s3.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            log.info("IN getObjectSize() -> got the object size -> SUCCESSFULLY");
+            return Optional.of(object.contentLength());
+        } catch (S3Exception e) {
+            if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public PresignedUrl presignPutObject(String bucketName, String key, long contentLength) {
+        log.info("IN presignPutObject() -> presigning an upload of '{}' bytes...", contentLength);
+        if (contentLength <= 0 || contentLength > presignProperties.getMaxUploadSize()) {
+            throw new FileException(format(INVALID_UPLOAD_SIZE, contentLength, presignProperties.getMaxUploadSize()));
+        }
+        final var presignedRequest = presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignProperties.getUploadExpiration())
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentLength(contentLength)
+                        .build())
+                .build());
+        log.info("IN presignPutObject() -> presigned the upload -> SUCCESSFULLY");
+        return toPresignedUrl(key, presignedRequest);
+    }
+
+    @Override
+    public PresignedUrl presignGetObject(String bucketName, String key, String fileName) {
+        log.info("IN presignGetObject() -> presigning a download...");
+        final var presignedRequest = presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(presignProperties.getDownloadExpiration())
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .responseContentDisposition(ContentDisposition.attachment()
+                                .filename(fileName, StandardCharsets.UTF_8)
+                                .build()
+                                .toString())
+                        .build())
+                .build());
+        log.info("IN presignGetObject() -> presigned the download -> SUCCESSFULLY");
+        return toPresignedUrl(key, presignedRequest);
+    }
+
+    private PresignedUrl toPresignedUrl(String key, PresignedRequest presignedRequest) {
+        final var signedHeaders = new HashMap<>(presignedRequest.signedHeaders());
+        signedHeaders.remove(HOST);
+        return PresignedUrl.builder()
+                .key(key)
+                .url(presignedRequest.url().toString())
+                .method(presignedRequest.httpRequest().method().name())
+                .expiresAt(presignedRequest.expiration())
+                .signedHeaders(signedHeaders)
+                .build();
+    }
+
+    Optional<StorageObject> getCachedObject(String bucketName, String key, String range, String ifRange) {
+        final var singleRange = singleRange(range);
+        return cache.get(bucketName, key).flatMap(entry -> fromCache(entry, singleRange, ifRange));
+    }
+
+    private Optional<StorageObject> fromCache(S3ObjectCache.Entry entry, String singleRange, String ifRange) {
+        final var size = entry.size();
+        var start = 0L;
+        var end = size - ONE;
+        String contentRange = null;
+        if (singleRange != null && cachedIfRangeMatches(entry, ifRange)) {
+            final var byteRange = HttpRange.parseRanges(singleRange).get(0);
+            try {
+                start = byteRange.getRangeStart(size);
+                end = byteRange.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                throw new RangeNotSatisfiableException(format(RANGE_NOT_SATISFIABLE, singleRange), e);
+            }
+            if (start >= size || start > end) {
+                throw new RangeNotSatisfiableException(format(RANGE_NOT_SATISFIABLE, singleRange));
+            }
+            contentRange = format(CONTENT_RANGE_FORMAT, start, end, size);
+        }
+        final var position = start;
+        final var count = end - start + ONE;
+        final var range = contentRange;
+        return cache.open(entry).map(channel -> StorageObject.builder()
+                .contentLength(count)
+                .totalLength(size)
+                .contentRange(range)
+                .eTag(entry.eTag())
+                .lastModified(entry.lastModified())
+                .body(outputStream -> S3ObjectCache.transfer(channel, position, count, outputStream))
+                .abort(() -> S3ObjectCache.closeQuietly(channel))
+                .build());
+    }
+
+    private boolean cachedIfRangeMatches(S3ObjectCache.Entry entry, String ifRange) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            return false;
+        }
+        if (ifRange.startsWith(ETAG_QUOTE)) {
+            return ifRange.equals(entry.eTag());
+        }
+        try {
+            final var date = ZonedDateTime.parse(ifRange, RFC_1123_DATE_TIME).toInstant();
+            return entry.lastModified() != null && entry.lastModified().getEpochSecond() <= date.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void evictFromCache(String bucketName, String key) {
+        cache.invalidate(bucketName, key);
+    }
+
+    static String singleRange(String range) {
+        if (range == null) {
+            return null;
+        }
+        try {
+            return HttpRange.parseRanges(range).size() == ONE ? range : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("IN singleRange() -> ignoring invalid range '{}'", range);
+            return null;
+        }
+    }
+
+    static boolean applyIfRange(GetObjectRequest.Builder requestBuilder, String ifRange) {
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            return false;
+        }
+        if (ifRange.startsWith(ETAG_QUOTE)) {
+            requestBuilder.ifMatch(ifRange);
+            return true;
+        }
+        try {
+            requestBuilder.ifUnmodifiedSince(ZonedDateTime.parse(ifRange, RFC_1123_DATE_TIME).toInstant());
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String getObjectUrl(String bucketName, String key) {
         log.info("IN getObjectUrl() -> processing...");
         URL url = s3.utilities().getUrl(GetUrlRequest.builder()
                 .bucket(bucketName)
                 .key(key)
                 .build());
         log.info("IN getObjectUrl() -> got the object url -> SUCCESSFULLY");
-        return url;
+        return url.toString();
     }
 }
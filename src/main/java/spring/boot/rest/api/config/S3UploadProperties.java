@@ -0,0 +1,50 @@
+package spring.boot.rest.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+import java.time.Duration;
+
+import static java.lang.String.format;
+import static spring.boot.rest.api.util.Constants.*;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.upload")
+public class S3UploadProperties implements Validator {
+    private long multipartThreshold = 64L * 1024 * 1024;
+    private long partSize = 16L * 1024 * 1024;
+    private int partConcurrency = 4;
+    private int maxPartAttempts = 3;
+    private Duration retryBaseDelay = Duration.ofMillis(200);
+    private Duration retryMaxDelay = Duration.ofSeconds(5);
+    private int executorThreads = 8;
+    private int executorQueueCapacity = 32;
+    private Duration staleUploadAge = Duration.ofHours(24);
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return S3UploadProperties.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        final var properties = (S3UploadProperties) target;
+        if (properties.getPartSize() < S3_MIN_PART_SIZE || properties.getPartSize() > Integer.MAX_VALUE) {
+            errors.rejectValue(FIELD_NAME_PART_SIZE, INVALID_S3_UPLOAD_PROPERTY,
+                    format(INVALID_PART_SIZE, S3_MIN_PART_SIZE, Integer.MAX_VALUE));
+        } else if (properties.getMultipartThreshold() > properties.getPartSize() * S3_MAX_PARTS) {
+            errors.rejectValue(FIELD_NAME_MULTIPART_THRESHOLD, INVALID_S3_UPLOAD_PROPERTY,
+                    format(MULTIPART_THRESHOLD_TOO_LARGE, S3_MAX_PARTS));
+        }
+        if (properties.getPartConcurrency() < 1) {
+            errors.rejectValue(FIELD_NAME_PART_CONCURRENCY, INVALID_S3_UPLOAD_PROPERTY, INVALID_PART_CONCURRENCY);
+        }
+        if (properties.getMaxPartAttempts() < 1) {
+            errors.rejectValue(FIELD_NAME_MAX_PART_ATTEMPTS, INVALID_S3_UPLOAD_PROPERTY, INVALID_MAX_PART_ATTEMPTS);
+        }
+    }
+}
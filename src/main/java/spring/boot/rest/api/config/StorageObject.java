@@ -0,0 +1,42 @@
+package spring.boot.rest.api.config;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+import static spring.boot.rest.api.util.Constants.ASTERISK;
+import static spring.boot.rest.api.util.Constants.ONE;
+import static spring.boot.rest.api.util.Constants.SLASH;
+
+@Getter
+@Builder(toBuilder = true)
+public class StorageObject {
+    private final long contentLength;
+    private final long totalLength;
+    private final String contentRange;
+    private final String eTag;
+    private final Instant lastModified;
+    private final StreamingResponseBody body;
+    private final String fileName;
+    private final Runnable abort;
+
+    public boolean isPartial() {
+        return contentRange != null;
+    }
+
+    public void abort() {
+        if (abort != null) {
+            abort.run();
+        }
+    }
+
+    public static long totalLength(long contentLength, String contentRange) {
+        if (contentRange == null) {
+            return contentLength;
+        }
+        final var total = contentRange.substring(contentRange.lastIndexOf(SLASH) + ONE);
+        return ASTERISK.equals(total) ? -1L : Long.parseLong(total);
+    }
+}
@@ -0,0 +1,198 @@
+package spring.boot.rest.api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spring.boot.rest.api.model.BaseEntity;
+import spring.boot.rest.api.model.Blob;
+import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.model.PresignedUpload;
+import spring.boot.rest.api.repository.BlobRepo;
+import spring.boot.rest.api.repository.FileRepo;
+import spring.boot.rest.api.repository.PresignedUploadRepo;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static spring.boot.rest.api.util.Constants.*;
+
+@Slf4j
+@Component
+public class StorageReaper {
+
+    private final FileRepo fileRepo;
+    private final BlobRepo blobRepo;
+    private final PresignedUploadRepo presignedUploadRepo;
+    private final FileStorage fileStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final Counter reclaimedObjects;
+    private final Counter failures;
+    private final Timer batchDuration;
+    private final DistributionSummary throughput;
+
+    public StorageReaper(FileRepo fileRepo, BlobRepo blobRepo, PresignedUploadRepo presignedUploadRepo, FileStorage fileStorage,
+                         PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                         @Value("${storage.gc.retention:7d}") Duration retention,
+                         @Value("${storage.gc.batch-size:1000}") int batchSize) {
+        this.fileRepo = fileRepo;
+        this.blobRepo = blobRepo;
+        this.presignedUploadRepo = presignedUploadRepo;
+        this.fileStorage = fileStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = Math.min(batchSize, MAX_DELETE_OBJECTS_BATCH);
+        this.reclaimedObjects = meterRegistry.counter(STORAGE_GC_METRIC + OBJECTS_SUFFIX);
+        this.failures = meterRegistry.counter(STORAGE_GC_METRIC + FAILURES_SUFFIX);
+        this.batchDuration = meterRegistry.timer(STORAGE_GC_METRIC + BATCH_DURATION_SUFFIX);
+        this.throughput = DistributionSummary.builder(STORAGE_GC_METRIC + THROUGHPUT_SUFFIX)
+                .baseUnit(OBJECTS_PER_SECOND)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${storage.gc.interval-ms:3600000}",
+            fixedDelayString = "${storage.gc.interval-ms:3600000}")
+    public void reclaimStorage() {
+        reclaimReleasedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    public long reclaimReleasedBefore(LocalDateTime releasedBefore) {
+        log.info("IN reclaimReleasedBefore() -> reclaiming objects released before '{}'...", releasedBefore);
+        final var startedAt = System.nanoTime();
+        try {
+            final var reclaimed = reclaimDeletedFiles(releasedBefore) + reclaimUnreferencedBlobs(releasedBefore)
+                    + reclaimAbandonedUploads(releasedBefore);
+            final var elapsedNanos = System.nanoTime() - startedAt;
+            if (reclaimed > 0) {
+                throughput.record(reclaimed * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+            }
+            log.info("IN reclaimReleasedBefore() -> reclaimed '{}' objects in '{}' ms -> SUCCESSFULLY",
+                    reclaimed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            return reclaimed;
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("IN reclaimReleasedBefore() -> FAILED", e);
+            throw e;
+        }
+    }
+
+    private long reclaimDeletedFiles(LocalDateTime deletedBefore) {
+        var reclaimed = 0L;
+        var afterId = 0L;
+        while (true) {
+            final var startedAt = System.nanoTime();
+            final var files = fileRepo.findPurgeable(deletedBefore, afterId, PageRequest.of(0, batchSize));
+            if (files.isEmpty()) {
+                break;
+            }
+            final var purgedIds = deleteObjects(files, File::getS3Bucket, File::getS3Secret).stream()
+                    .map(File::getId)
+                    .toList();
+            if (!purgedIds.isEmpty()) {
+                fileRepo.markPurgedByIds(purgedIds, LocalDateTime.now());
+            }
+            recordBatch(startedAt, purgedIds.size());
+            reclaimed += purgedIds.size();
+            afterId = files.get(files.size() - ONE).getId();
+            if (files.size() < batchSize) {
+                break;
+            }
+        }
+        return reclaimed;
+    }
+
+    private long reclaimUnreferencedBlobs(LocalDateTime releasedBefore) {
+        return reclaimClaimedObjects(
+                (afterId, pageable) -> blobRepo.findUnreferencedReleasedBefore(releasedBefore, afterId, pageable),
+                Blob::getS3Bucket, Blob::getS3Key,
+                ids -> {
+                    fileRepo.markPurgedByBlobIds(ids, LocalDateTime.now());
+                    blobRepo.deleteAllByIds(ids);
+                });
+    }
+
+    private long reclaimAbandonedUploads(LocalDateTime expiredBefore) {
+        return reclaimClaimedObjects(
+                (afterId, pageable) -> presignedUploadRepo.findExpiredBefore(expiredBefore, afterId, pageable),
+                PresignedUpload::getS3Bucket, PresignedUpload::getS3Key,
+                presignedUploadRepo::deleteAllByIds);
+    }
+
+    private <T extends BaseEntity> long reclaimClaimedObjects(BiFunction<Long, Pageable, List<T>> claimBatch,
+                                                              Function<T, String> bucketOf, Function<T, String> keyOf,
+                                                              Consumer<List<Long>> deleteRows) {
+        var reclaimed = 0L;
+        var afterId = 0L;
+        while (true) {
+            final var startedAt = System.nanoTime();
+            final var lastId = afterId;
+            final var sweep = transactionTemplate.execute(status -> {
+                final var claimed = claimBatch.apply(lastId, PageRequest.of(0, batchSize));
+                if (claimed.isEmpty()) {
+                    return new Sweep<>(claimed, List.<Long>of());
+                }
+                final var deletedIds = deleteObjects(claimed, bucketOf, keyOf).stream()
+                        .map(BaseEntity::getId)
+                        .toList();
+                if (!deletedIds.isEmpty()) {
+                    deleteRows.accept(deletedIds);
+                }
+                if (deletedIds.size() < claimed.size()) {
+                    log.warn("IN reclaimClaimedObjects() -> '{}' objects were not deleted, keeping their rows for the next sweep",
+                            claimed.size() - deletedIds.size());
+                }
+                return new Sweep<>(claimed, deletedIds);
+            });
+            if (sweep == null || sweep.claimed().isEmpty()) {
+                break;
+            }
+            recordBatch(startedAt, sweep.deletedIds().size());
+            reclaimed += sweep.deletedIds().size();
+            afterId = sweep.claimed().get(sweep.claimed().size() - ONE).getId();
+            if (sweep.claimed().size() < batchSize) {
+                break;
+            }
+        }
+        return reclaimed;
+    }
+
+    private <T> List<T> deleteObjects(List<T> owners, Function<T, String> bucketOf, Function<T, String> keyOf) {
+        final var deletedObjects = new HashSet<String>();
+        for (final var bucket : owners.stream()
+                .collect(groupingBy(bucketOf, mapping(keyOf, toList())))
+                .entrySet()) {
+            fileStorage.deleteObjects(bucket.getKey(), bucket.getValue())
+                    .forEach(key -> deletedObjects.add(bucket.getKey() + SLASH + key));
+        }
+        return owners.stream()
+                .filter(owner -> deletedObjects.contains(bucketOf.apply(owner) + SLASH + keyOf.apply(owner)))
+                .toList();
+    }
+
+    private void recordBatch(long startedAt, int objects) {
+        batchDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        reclaimedObjects.increment(objects);
+    }
+
+    private record Sweep<T>(List<T> claimed, List<Long> deletedIds) {
+    }
+}
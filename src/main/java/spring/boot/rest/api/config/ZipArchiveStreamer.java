@@ -0,0 +1,111 @@
+package spring.boot.rest.api.config;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.lang.String.format;
+import static spring.boot.rest.api.util.Constants.*;
+
+@Slf4j
+@Component
+public class ZipArchiveStreamer {
+
+    private final FileStorage fileStorage;
+    private final ArchiveProperties properties;
+    private final ThreadPoolExecutor archiveFetchExecutor;
+
+    public ZipArchiveStreamer(FileStorage fileStorage, ArchiveProperties properties) {
+        this.fileStorage = fileStorage;
+        this.properties = properties;
+        this.archiveFetchExecutor = new ThreadPoolExecutor(
+                properties.getExecutorThreads(),
+                properties.getExecutorThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getExecutorQueueCapacity()),
+                new CustomizableThreadFactory(ARCHIVE_FETCH_THREAD_PREFIX),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public StreamingResponseBody stream(List<ArchiveEntry> entries) {
+        return outputStream -> {
+            log.info("IN stream() -> archiving '{}' files...", entries.size());
+            final var window = new ArrayDeque<CompletableFuture<StorageObject>>();
+            final var usedNames = new HashSet<String>();
+            final var duplicates = new HashMap<String, Integer>();
+            var next = 0;
+            try (var zip = new ZipOutputStream(outputStream)) {
+                zip.setLevel(properties.getCompressionLevel());
+                for (final var entry : entries) {
+                    while (next < entries.size() && window.size() < properties.getPrefetch()) {
+                        window.add(open(entries.get(next++)));
+                    }
+                    final var object = await(window.poll(), entry);
+                    zip.putNextEntry(new ZipEntry(uniqueName(usedNames, duplicates, entry.name())));
+                    object.getBody().writeTo(zip);
+                    zip.closeEntry();
+                }
+                log.info("IN stream() -> archived '{}' files -> SUCCESSFULLY", entries.size());
+            } finally {
+                window.forEach(pending -> pending.thenAccept(StorageObject::abort));
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        archiveFetchExecutor.shutdown();
+    }
+
+    private CompletableFuture<StorageObject> open(ArchiveEntry entry) {
+        return CompletableFuture.supplyAsync(
+                () -> fileStorage.getObject(entry.bucketName(), entry.key(), null, null),
+                archiveFetchExecutor);
+    }
+
+    private StorageObject await(CompletableFuture<StorageObject> pending, ArchiveEntry entry) throws IOException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            log.error("IN stream() -> fetching '{}' -> FAILED", entry.name(), e.getCause());
+            throw new IOException(format(FAILED_TO_ARCHIVE_FILE, entry.name()), e.getCause());
+        }
+    }
+
+    private String uniqueName(Set<String> usedNames, Map<String, Integer> duplicates, String name) {
+        final var safeName = name == null || name.isBlank()
+                ? UNNAMED_ARCHIVE_ENTRY
+                : name.replace(SLASH, UNDERSCORE).replace(BACKSLASH, UNDERSCORE);
+        if (usedNames.add(safeName)) {
+            return safeName;
+        }
+        final var dot = safeName.lastIndexOf(DOT);
+        var seen = duplicates.getOrDefault(safeName, 0);
+        String candidate;
+        do {
+            seen++;
+            candidate = dot > 0
+                    ? format(DUPLICATE_ARCHIVE_NAME_WITH_EXTENSION, safeName.substring(0, dot), seen, safeName.substring(dot))
+                    : format(DUPLICATE_ARCHIVE_NAME, safeName, seen);
+        } while (!usedNames.add(candidate));
+        duplicates.put(safeName, seen);
+        return candidate;
+    }
+}
@@ -0,0 +1,18 @@
+package spring.boot.rest.api.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileArchiveRequestDto {
+    private List<Long> ids;
+    private List<String> locations;
+    private Long userId;
+}
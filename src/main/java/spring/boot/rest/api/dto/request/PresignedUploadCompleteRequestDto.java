@@ -0,0 +1,15 @@
+package spring.boot.rest.api.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadCompleteRequestDto {
+    private String key;
+    private String fileName;
+}
@@ -0,0 +1,22 @@
+package spring.boot.rest.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlResponseDto {
+    private String key;
+    private String url;
+    private String method;
+    private Instant expiresAt;
+    private Map<String, List<String>> headers;
+}
@@ -27,6 +27,13 @@ public class GlobalExceptionHandler {
         ErrorResponse response = getResponse(HttpStatus.NOT_FOUND, NOT_FOUND_EXCEPTION, e.getMessage());
         return ResponseEntity.status(response.getStatus()).body(response);
     }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(ConflictException e){
+        ErrorResponse response = getResponse(HttpStatus.CONFLICT, CONFLICT_EXCEPTION, e.getMessage());
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUsernameNotFoundException(UsernameNotFoundException e){
         ErrorResponse response = getResponse(HttpStatus.UNAUTHORIZED, USERNAME_NOT_FOUND_EXCEPTION, e.getMessage());
@@ -45,6 +52,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(response.getStatus()).body(response);
     }
 
+    @ExceptionHandler(RangeNotSatisfiableException.class)
+    public ResponseEntity<ErrorResponse> handleRangeNotSatisfiableException(RangeNotSatisfiableException e){
+        ErrorResponse response = getResponse(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, RANGE_NOT_SATISFIABLE_EXCEPTION, e.getMessage());
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @ExceptionHandler(NotImplementException.class)
+    public ResponseEntity<ErrorResponse> handleNotImplementException(NotImplementException e){
+        ErrorResponse response = getResponse(HttpStatus.NOT_IMPLEMENTED, NOT_IMPLEMENTED_EXCEPTION, e.getMessage());
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException e){
+        ErrorResponse response = getResponse(HttpStatus.BAD_REQUEST, INVALID_PAGE_REQUEST_EXCEPTION, e.getMessage());
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException e){
+        ErrorResponse response = getResponse(HttpStatus.SERVICE_UNAVAILABLE, PASSWORD_HASHING_UNAVAILABLE_EXCEPTION, e.getMessage());
+        return ResponseEntity.status(response.getStatus()).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
         ErrorResponse response = getResponse(HttpStatus.INTERNAL_SERVER_ERROR, GENERAL_EXCEPTION, e.getMessage());
@@ -0,0 +1,11 @@
+package spring.boot.rest.api.exception;
+
+public class RangeNotSatisfiableException extends RuntimeException {
+    public RangeNotSatisfiableException(String message) {
+        super(message);
+    }
+
+    public RangeNotSatisfiableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -15,7 +15,6 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import spring.boot.rest.api.exception.InvalidJwtAuthenticationException;
-import spring.boot.rest.api.repository.TokenRepo;
 
 import java.io.IOException;
 
@@ -26,7 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
-    private final TokenRepo tokenRepo;
+    private final TokenStateService tokenStateService;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -34,13 +33,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final var token = jwtService.resolveToken(request, response, filterChain);
             if (token == null) return;
-            final var userEmail = jwtService.getUsername(token);
+            final var claims = jwtService.getAllClaims(token);
+            final var userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
                 final var userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                final var isTokenValid = tokenRepo.findByNameToken(token)
-                        .map(t -> !t.isExpired() && !t.isRevoked()).orElse(Boolean.FALSE);
-                if (jwtService.isTokenValid(token, userDetails) && Boolean.TRUE.equals(isTokenValid)){
+                final var isTokenActive = tokenStateService.isActive(token, claims);
+                if (jwtService.isTokenValid(claims, userDetails) && isTokenActive){
                     final var authToken = new UsernamePasswordAuthenticationToken(
                             userDetails, null, userDetails.getAuthorities()
                     );
@@ -15,6 +15,8 @@ public interface JwtService {
     String createRefreshToken(UserDetails userDetails);
     String getUsername(String token);
     boolean isTokenValid(String token, UserDetails userDetails);
+    boolean isTokenValid(Claims claims, UserDetails userDetails);
+    Claims getAllClaims(String token);
     <T> T getClaim(String token, Function<Claims, T> claimsResolver);
     String resolveToken(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain) throws IOException, ServletException;
 }
@@ -0,0 +1,67 @@
+package spring.boot.rest.api.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import spring.boot.rest.api.repository.TokenRepo;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+@Slf4j
+@Component
+public class TokenReaper {
+
+    private final TokenRepo tokenRepo;
+    private final long refreshExpiration;
+    private final int batchSize;
+    private final Counter purgedRows;
+    private final Timer batchDuration;
+
+    public TokenReaper(TokenRepo tokenRepo, MeterRegistry meterRegistry,
+                       @Value("${jwt.token.refresh_token.expired}") long refreshExpiration,
+                       @Value("${jwt.token.purge.batch-size:500}") int batchSize) {
+        this.tokenRepo = tokenRepo;
+        this.refreshExpiration = refreshExpiration;
+        this.batchSize = batchSize;
+        this.purgedRows = meterRegistry.counter(TOKEN_PURGE_METRIC + ROWS_SUFFIX);
+        this.batchDuration = meterRegistry.timer(TOKEN_PURGE_METRIC + BATCH_DURATION_SUFFIX);
+    }
+
+    @Scheduled(initialDelayString = "${jwt.token.purge.interval-ms:3600000}",
+            fixedDelayString = "${jwt.token.purge.interval-ms:3600000}")
+    public void purgeStaleTokens() {
+        final var createdBefore = LocalDateTime.now().minusNanos(refreshExpiration * 1_000_000);
+        log.info("IN purgeStaleTokens() -> purging tokens created before '{}'...", createdBefore);
+        try {
+            var purged = 0L;
+            var afterId = 0L;
+            while (true) {
+                final var startedAt = System.nanoTime();
+                final var ids = tokenRepo.findIdsCreatedBefore(createdBefore, afterId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                final var deleted = tokenRepo.deleteAllByIds(ids);
+                batchDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                purgedRows.increment(deleted);
+                purged += deleted;
+                afterId = ids.get(ids.size() - ONE);
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+            log.info("IN purgeStaleTokens() -> purged '{}' tokens -> SUCCESSFULLY", purged);
+        } catch (DataAccessException e) {
+            log.error("IN purgeStaleTokens() -> FAILED", e);
+        }
+    }
+}
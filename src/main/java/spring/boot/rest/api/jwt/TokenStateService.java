@@ -0,0 +1,9 @@
+package spring.boot.rest.api.jwt;
+
+import io.jsonwebtoken.Claims;
+
+public interface TokenStateService {
+    void revoke(String token);
+    void revokeAllForUser(Long userId);
+    boolean isActive(String token, Claims claims);
+}
@@ -1,6 +1,7 @@
 package spring.boot.rest.api.jwt;
 
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserDetailService extends UserDetailsService {
+public interface UserDetailService extends UserDetailsService, UserDetailsPasswordService {
 }
@@ -3,6 +3,7 @@ package spring.boot.rest.api.jwt.impl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +20,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -34,6 +36,18 @@ public class JwtServiceImpl implements JwtService {
     private long jwtExpired;
     @Value("${jwt.token.refresh_token.expired}")
     private long refreshExpiration;
+    private Key signKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        log.info("IN init() -> building the signing key and the token parser...");
+        signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+        log.info("IN init() -> built the signing key and the token parser -> SUCCESSFULLY");
+    }
 
     @Override
     public String createToken(UserDetails userDetails) {
@@ -57,15 +71,24 @@ public class JwtServiceImpl implements JwtService {
     public boolean isTokenValid(String token, UserDetails userDetails) {
         log.info("IN isTokenValid() -> validating token...");
         try {
-            final var username = getUsername(token);
-
-            return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-
+            return isTokenValid(getAllClaims(token), userDetails);
         } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidJwtAuthenticationException(JWT_TOKEN_IS_EXPIRED_OR_INVALID);
         }
     }
 
+    @Override
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        log.info("IN isTokenValid() -> validating parsed claims...");
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
+    }
+
+    @Override
+    public Claims getAllClaims(String token) {
+        log.info("IN getAllClaims() -> parsing and verifying token...");
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
     @Override
     public <T> T getClaim(String token, Function<Claims, T> claimsResolver) {
         log.info("IN getClaim() -> getting a claim...");
@@ -84,19 +107,6 @@ public class JwtServiceImpl implements JwtService {
             return authHeader.substring(SEVEN);
     }
 
-    private Claims getAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSighKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSighKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     private String createToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return buildToken(extraClaims, userDetails, jwtExpired);
     }
@@ -107,18 +117,15 @@ public class JwtServiceImpl implements JwtService {
 
         return Jwts.builder()
                 .setClaims(extraClaims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(getSighKey(), SignatureAlgorithm.HS256)
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return getExpiration(token).before(new Date());
-    }
-
-    private Date getExpiration(String token) {
-        return getClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
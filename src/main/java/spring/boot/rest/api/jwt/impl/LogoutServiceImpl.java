@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import spring.boot.rest.api.jwt.LogoutService;
+import spring.boot.rest.api.jwt.TokenStateService;
 import spring.boot.rest.api.service.TokenService;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
@@ -15,6 +16,7 @@ import static spring.boot.rest.api.util.Constants.BEARER;
 @RequiredArgsConstructor
 public class LogoutServiceImpl implements LogoutService {
     private final TokenService tokenService;
+    private final TokenStateService tokenStateService;
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
         final String authHeader = request.getHeader(AUTHORIZATION);
@@ -29,5 +31,6 @@ public class LogoutServiceImpl implements LogoutService {
             storedToken.setRevoked(Boolean.TRUE);
             tokenService.save(storedToken);
         }
+        tokenStateService.revoke(jwt);
     }
 }
@@ -0,0 +1,112 @@
+package spring.boot.rest.api.jwt.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import spring.boot.rest.api.jwt.TokenStateService;
+import spring.boot.rest.api.repository.TokenRepo;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static spring.boot.rest.api.util.HashUtil.sha256;
+import static spring.boot.rest.api.util.HashUtil.sha256Hex;
+
+@Slf4j
+@Service
+public class TokenStateServiceImpl implements TokenStateService {
+
+    private final TokenRepo tokenRepo;
+    private final Cache<String, TokenState> activeTokens;
+    private final Cache<String, TokenState> revokedTokens;
+
+    public TokenStateServiceImpl(TokenRepo tokenRepo,
+                                 @Value("${jwt.token.state.maximum-size:100000}") long maximumSize,
+                                 @Value("${jwt.token.state.active-ttl:30s}") Duration activeTtl) {
+        this.tokenRepo = tokenRepo;
+        this.activeTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpires(activeTtl))
+                .build();
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpires(null))
+                .build();
+    }
+
+    @Override
+    public void revoke(String token) {
+        log.info("IN revoke() -> revoking token...");
+        final var key = sha256Hex(token);
+        final var state = activeTokens.asMap().remove(key);
+        if (state != null) {
+            revokedTokens.put(key, state);
+        }
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        log.info("IN revokeAllForUser() -> revoking all cached tokens of user id - '{}'...", userId);
+        activeTokens.asMap().entrySet().removeIf(entry -> {
+            if (!userId.equals(entry.getValue().userId())) {
+                return false;
+            }
+            revokedTokens.put(entry.getKey(), entry.getValue());
+            return true;
+        });
+    }
+
+    @Override
+    public boolean isActive(String token, Claims claims) {
+        final var key = sha256Hex(token);
+        if (revokedTokens.getIfPresent(key) != null) {
+            return false;
+        }
+        if (activeTokens.getIfPresent(key) != null) {
+            return true;
+        }
+        log.info("IN isActive() -> token state is not cached, checking the database...");
+        final var storedToken = tokenRepo.findByTokenHash(sha256(token));
+        final var active = storedToken.map(t -> !t.isExpired() && !t.isRevoked()).orElse(Boolean.FALSE);
+        final var state = new TokenState(storedToken.map(t -> t.getUser().getId()).orElse(null),
+                claims.getExpiration().toInstant());
+        if (Boolean.TRUE.equals(active)) {
+            activeTokens.put(key, state);
+        } else {
+            revokedTokens.put(key, state);
+        }
+        return active;
+    }
+
+    private record TokenState(Long userId, Instant expiresAt) {
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, TokenState> {
+
+        private final Duration maxTtl;
+
+        UntilTokenExpires(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, TokenState state, long currentTime) {
+            final var untilExpired = Math.max(Duration.between(Instant.now(), state.expiresAt()).toNanos(), 0L);
+            return maxTtl == null ? untilExpired : Math.min(untilExpired, maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenState state, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, state, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenState state, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
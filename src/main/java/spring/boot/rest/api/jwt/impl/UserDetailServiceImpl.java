@@ -1,12 +1,24 @@
 package spring.boot.rest.api.jwt.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.event.TransactionalEventListener;
+import spring.boot.rest.api.jwt.JwtUser;
 import spring.boot.rest.api.jwt.JwtUserFactory;
 import spring.boot.rest.api.jwt.UserDetailService;
 import spring.boot.rest.api.repository.UserRepo;
+import spring.boot.rest.api.service.event.UserChangedEvent;
+import spring.boot.rest.api.service.event.UsersChangedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
 
 import static java.lang.String.format;
 
@@ -15,14 +27,58 @@ import static java.lang.String.format;
 public class UserDetailServiceImpl implements UserDetailService {
 
     public final UserRepo userRepo;
+    @Value("${jwt.user-cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${jwt.user-cache.expire-after-write:5m}")
+    private Duration expireAfterWrite;
+    private Cache<String, JwtUser> users;
+
+    @PostConstruct
+    public void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.info("IN loadUserByUsername() -> checking... user by username - {}", username);
+        final var cachedUser = users.getIfPresent(username);
+        if (cachedUser != null) {
+            log.info("IN loadUserByUsername() -> user by username - {} -> found in cache SUCCESSFULLY", username);
+            return cachedUser;
+        }
         final var user = userRepo.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException(format("User with username - [%s] not found", username)));
         final var jwtUser = JwtUserFactory.create(user);
+        users.put(username, jwtUser);
         log.info("IN loadUserByUsername() -> checking... user by username - {} -> checked SUCCESSFULLY", username);
         return jwtUser;
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        log.info("IN updatePassword() -> re-hashing password of user by username - {}...", user.getUsername());
+        userRepo.updatePasswordByEmail(user.getUsername(), newPassword, LocalDateTime.now());
+        users.invalidate(user.getUsername());
+        final var updatedUser = user instanceof JwtUser jwtUser
+                ? jwtUser.toBuilder().password(newPassword).build()
+                : loadUserByUsername(user.getUsername());
+        log.info("IN updatePassword() -> re-hashed password of user by username - {} -> SUCCESSFULLY", user.getUsername());
+        return updatedUser;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.info("IN onUserChanged() -> evicting user by username - {} from cache", event.email());
+        users.invalidate(event.email());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        log.info("IN onUsersChanged() -> evicting '{}' users by id from cache", event.ids().size());
+        final var ids = Set.copyOf(event.ids());
+        users.asMap().values().removeIf(user -> ids.contains(user.getId()));
+    }
 }
@@ -10,6 +10,7 @@ import spring.boot.rest.api.dto.request.EventUpdateRequestDto;
 import spring.boot.rest.api.model.Event;
 import spring.boot.rest.api.model.File;
 import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.projection.EventView;
 
 import static spring.boot.rest.api.util.Constants.*;
 
@@ -21,6 +22,8 @@ public interface EventMapper {
     @Mapping(source = "file", target = "fileId", qualifiedByName = "mapFileToId")
     EventResponseDto map(Event event);
 
+    EventResponseDto map(EventView eventView);
+
     @Mapping(source = "userId", target = "user", qualifiedByName = "mapIdToUser")
     @Mapping(source = "fileId", target = "file", qualifiedByName = "mapIdToFile")
     Event map(EventResponseDto eventResponseDto);
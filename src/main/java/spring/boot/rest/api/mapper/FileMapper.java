@@ -3,9 +3,12 @@ package spring.boot.rest.api.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.stereotype.Component;
+import spring.boot.rest.api.config.PresignedUrl;
 import spring.boot.rest.api.dto.response.FileResponseDto;
+import spring.boot.rest.api.dto.response.PresignedUrlResponseDto;
 import spring.boot.rest.api.dto.response.FileDownloadDTO;
 import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.repository.projection.FileView;
 
 import static spring.boot.rest.api.util.Constants.TEXT_SPRING;
 
@@ -21,7 +24,12 @@ public interface FileMapper {
     @Mapping(source = "status", target = "status")
     FileResponseDto map(File file);
 
+    FileResponseDto map(FileView fileView);
+
     File map(FileResponseDto fileResponseDto);
     @Mapping(source = "location", target = "location")
     FileDownloadDTO mapToFileDownloadDTO(File file);
+
+    @Mapping(source = "signedHeaders", target = "headers")
+    PresignedUrlResponseDto map(PresignedUrl presignedUrl);
 }
@@ -5,6 +5,7 @@ import org.springframework.stereotype.Component;
 import spring.boot.rest.api.dto.response.UserResponseDto;
 import spring.boot.rest.api.dto.request.UserUpdateRequestDto;
 import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.projection.UserView;
 
 import static spring.boot.rest.api.util.Constants.TEXT_SPRING;
 
@@ -18,6 +19,8 @@ public interface UserMapper {
     @Mapping(source = "updatedAt", target = "updatedAt")
     UserResponseDto map(User user);
 
+    UserResponseDto map(UserView userView);
+
     @Mapping(source = "role", target = "role")
     @Mapping(source = "status", target = "status")
     @Mapping(source = "createdAt", target = "createdAt")
@@ -0,0 +1,31 @@
+package spring.boot.rest.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+@Entity
+@Table(name = BLOBS)
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class Blob extends BaseEntity {
+    @Column(name = SHA256, unique = true, nullable = false)
+    private byte[] sha256;
+    @Column(name = S3_BUCKET, nullable = false)
+    private String s3Bucket;
+    @Column(name = S3_KEY, nullable = false)
+    private String s3Key;
+    @Column(name = LOCATION, nullable = false)
+    private String location;
+    @Column(name = SIZE, nullable = false)
+    private long size;
+    @Column(name = REF_COUNT, nullable = false)
+    private int refCount;
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import java.time.LocalDateTime;
+
 import static spring.boot.rest.api.util.Constants.*;
 
 @Entity
@@ -19,11 +21,20 @@ import static spring.boot.rest.api.util.Constants.*;
 public class File extends BaseEntity {
     @Column(name = NAME, nullable = false)
     private String name;
-    @Column(name = S3_SECRET, unique = true, nullable = false)
+    @Column(name = S3_SECRET, unique = true)
     private String s3Secret;
     @Column(name = S3_BUCKET, nullable = false)
     private String s3Bucket;
     @Column(name = LOCATION, nullable = false)
     private String location;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = BLOB_ID)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Blob blob;
+    @Column(name = DELETED_AT)
+    private LocalDateTime deletedAt;
+    @Column(name = PURGED_AT)
+    private LocalDateTime purgedAt;
 }
 
@@ -0,0 +1,32 @@
+package spring.boot.rest.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+@Entity
+@Table(name = PRESIGNED_UPLOADS)
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class PresignedUpload extends BaseEntity {
+    @Column(name = S3_BUCKET, nullable = false)
+    private String s3Bucket;
+    @Column(name = S3_KEY, unique = true, nullable = false)
+    private String s3Key;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = USER_ID, nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User user;
+    @Column(name = EXPIRES_AT, nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -17,8 +17,8 @@ import static spring.boot.rest.api.util.Constants.*;
 @Table(name = TOKENS)
 @EqualsAndHashCode(callSuper = true)
 public class Token extends BaseEntity {
-    @Column(name = TOKEN)
-    private String nameToken;
+    @Column(name = TOKEN_HASH)
+    private byte[] tokenHash;
     @Enumerated(EnumType.STRING)
     @Column(name = TOKEN_TYPE)
     private TokenType tokenType;
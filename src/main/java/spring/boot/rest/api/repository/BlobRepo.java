@@ -0,0 +1,46 @@
+package spring.boot.rest.api.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import spring.boot.rest.api.model.Blob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+@Repository
+public interface BlobRepo extends JpaRepository<Blob, Long> {
+
+    Optional<Blob> findBySha256(byte[] sha256);
+
+    @Modifying(flushAutomatically = true)
+    @Query(QUERY_ACQUIRE_BLOB_BY_SHA256)
+    int acquireBySha256(byte[] sha256, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = QUERY_INSERT_OR_ACQUIRE_BLOB, nativeQuery = true)
+    int insertOrAcquire(byte[] sha256, String bucket, String key, String location, long size, LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(QUERY_RELEASE_BLOB_BY_ID)
+    int releaseById(Long id, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query(QUERY_RELEASE_BLOBS_BY_FILE_IDS)
+    int releaseByFileIds(List<Long> fileIds, LocalDateTime updatedAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(QUERY_FIND_UNREFERENCED_BLOBS_RELEASED_BEFORE_AFTER_ID)
+    List<Blob> findUnreferencedReleasedBefore(LocalDateTime releasedBefore, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(QUERY_DELETE_BLOBS_BY_IDS)
+    int deleteAllByIds(List<Long> ids);
+}
@@ -1,9 +1,52 @@
 package spring.boot.rest.api.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import spring.boot.rest.api.model.Event;
+import spring.boot.rest.api.repository.projection.EventView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static spring.boot.rest.api.util.Constants.*;
 
 @Repository
 public interface EventRepo extends JpaRepository<Event, Long> {
+
+    @Query(QUERY_EXISTS_ACTIVE_FILE_BY_USER_EMAIL_AND_LOCATION)
+    boolean existsActiveFileByUserEmailAndLocation(String email, String location);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(QUERY_STREAM_ALL_EVENTS)
+    Stream<EventView> streamAll();
+
+    @Query(QUERY_FIND_EVENT_VIEW_BY_ID)
+    Optional<EventView> findViewById(Long id);
+
+    @Query(QUERY_FIND_EVENTS_PAGE_BY_NAME)
+    List<EventView> findPageByName(String afterValue, Long afterId, Pageable pageable);
+
+    @Query(QUERY_FIND_EVENTS_PAGE_BY_CREATED_AT)
+    List<EventView> findPageByCreatedAt(LocalDateTime afterValue, Long afterId, Pageable pageable);
+
+    @Query(QUERY_FIND_ACTIVE_EVENT_IDS_AFTER_ID)
+    List<Long> findActiveIdsAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(QUERY_MARK_EVENTS_DELETED_BY_IDS)
+    int markDeletedByIds(List<Long> ids, LocalDateTime updatedAt);
 }
@@ -1,9 +1,75 @@
 package spring.boot.rest.api.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.model.Status;
+import spring.boot.rest.api.repository.projection.FileView;
+import spring.boot.rest.api.repository.projection.StoredObjectView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static spring.boot.rest.api.util.Constants.*;
 
 @Repository
 public interface FileRepo extends JpaRepository<File, Long> {
+    @EntityGraph(attributePaths = BLOB)
+    Optional<File> findFirstByLocation(String location);
+
+    @EntityGraph(attributePaths = BLOB)
+    Optional<File> findFirstByLocationAndStatus(String location, Status status);
+
+    boolean existsByS3Secret(String s3Secret);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(QUERY_STREAM_ALL_FILES)
+    Stream<FileView> streamAll();
+
+    @Query(QUERY_FIND_FILE_VIEW_BY_ID)
+    Optional<FileView> findViewById(Long id);
+
+    @Query(QUERY_FIND_FILES_PAGE_BY_CREATED_AT)
+    List<FileView> findPageByCreatedAt(LocalDateTime afterValue, Long afterId, Pageable pageable);
+
+    @Query(QUERY_FIND_FILES_PAGE_BY_NAME)
+    List<FileView> findPageByName(String afterValue, Long afterId, Pageable pageable);
+
+    @Query(QUERY_FIND_LEGACY_OBJECTS_BY_IDS)
+    List<StoredObjectView> findLegacyObjectsByIds(List<Long> ids);
+
+    @Query(QUERY_FIND_ACTIVE_FILE_IDS_AFTER_ID)
+    List<Long> findActiveIdsAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(QUERY_MARK_FILES_DELETED_BY_IDS)
+    int markDeletedByIds(List<Long> ids, LocalDateTime updatedAt);
+
+    @Query(QUERY_FIND_PURGEABLE_FILES_DELETED_BEFORE_AFTER_ID)
+    List<File> findPurgeable(LocalDateTime deletedBefore, Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query(QUERY_MARK_FILES_PURGED_BY_IDS)
+    int markPurgedByIds(List<Long> ids, LocalDateTime purgedAt);
+
+    @Modifying
+    @Query(QUERY_MARK_FILES_PURGED_BY_BLOB_IDS)
+    int markPurgedByBlobIds(List<Long> blobIds, LocalDateTime purgedAt);
 }
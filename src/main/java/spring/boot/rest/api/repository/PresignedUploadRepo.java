@@ -0,0 +1,31 @@
+package spring.boot.rest.api.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import spring.boot.rest.api.model.PresignedUpload;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+@Repository
+public interface PresignedUploadRepo extends JpaRepository<PresignedUpload, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(QUERY_CLAIM_PRESIGNED_UPLOAD_BY_KEY_AND_USER_ID)
+    int claim(String key, Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(QUERY_FIND_PRESIGNED_UPLOADS_EXPIRED_BEFORE_AFTER_ID)
+    List<PresignedUpload> findExpiredBefore(LocalDateTime expiredBefore, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(QUERY_DELETE_PRESIGNED_UPLOADS_BY_IDS)
+    int deleteAllByIds(List<Long> ids);
+}
@@ -1,14 +1,18 @@
 package spring.boot.rest.api.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import spring.boot.rest.api.model.Token;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import static spring.boot.rest.api.util.Constants.QUERY_FIND_ALL_TOKENS_BY_USER_ID_AND_EXPIRED_REVOKED_FALSE;
+import static spring.boot.rest.api.util.Constants.*;
 
 @Repository
 public interface TokenRepo extends JpaRepository<Token, Long> {
@@ -16,5 +20,17 @@ public interface TokenRepo extends JpaRepository<Token, Long> {
     @Query(QUERY_FIND_ALL_TOKENS_BY_USER_ID_AND_EXPIRED_REVOKED_FALSE)
     List<Token> findAllValidTokensByUserId(Long userId);
 
-    Optional<Token> findByNameToken(String token);
+    Optional<Token> findByTokenHash(byte[] tokenHash);
+
+    @Modifying(flushAutomatically = true)
+    @Query(QUERY_REVOKE_ALL_TOKENS_BY_USER_ID)
+    int revokeAllByUserId(Long userId, LocalDateTime updatedAt);
+
+    @Query(QUERY_FIND_TOKEN_IDS_CREATED_BEFORE_AFTER_ID)
+    List<Long> findIdsCreatedBefore(LocalDateTime createdBefore, Long afterId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query(QUERY_DELETE_TOKENS_BY_IDS)
+    int deleteAllByIds(List<Long> ids);
 }
@@ -1,12 +1,53 @@
 package spring.boot.rest.api.repository;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.projection.UserView;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static spring.boot.rest.api.util.Constants.*;
 
 @Repository
 public interface UserRepo extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query(QUERY_UPDATE_PASSWORD_BY_EMAIL)
+    int updatePasswordByEmail(String email, String password, LocalDateTime updatedAt);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(QUERY_STREAM_ALL_USERS)
+    Stream<UserView> streamAll();
+
+    @Query(QUERY_FIND_USERS_PAGE_BY_FIRST_NAME)
+    List<UserView> findPageByFirstName(String afterValue, Long afterId, Pageable pageable);
+
+    @Query(QUERY_FIND_USERS_PAGE_BY_CREATED_AT)
+    List<UserView> findPageByCreatedAt(LocalDateTime afterValue, Long afterId, Pageable pageable);
+
+    @Query(QUERY_FIND_ACTIVE_USER_IDS_AFTER_ID)
+    List<Long> findActiveIdsAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query(QUERY_MARK_USERS_DELETED_BY_IDS)
+    int markDeletedByIds(List<Long> ids, LocalDateTime updatedAt);
 }
@@ -0,0 +1,8 @@
+package spring.boot.rest.api.repository.projection;
+
+import spring.boot.rest.api.model.Status;
+
+import java.time.LocalDateTime;
+
+public record EventView(Long id, String name, Long userId, Long fileId, LocalDateTime createdAt, Status status) {
+}
@@ -0,0 +1,9 @@
+package spring.boot.rest.api.repository.projection;
+
+import spring.boot.rest.api.model.Status;
+
+import java.time.LocalDateTime;
+
+public record FileView(Long id, String name, String location,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Status status) {
+}
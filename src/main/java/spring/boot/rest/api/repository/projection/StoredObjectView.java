@@ -0,0 +1,4 @@
+package spring.boot.rest.api.repository.projection;
+
+public record StoredObjectView(String s3Bucket, String s3Secret) {
+}
@@ -0,0 +1,10 @@
+package spring.boot.rest.api.repository.projection;
+
+import spring.boot.rest.api.model.Role;
+import spring.boot.rest.api.model.Status;
+
+import java.time.LocalDateTime;
+
+public record UserView(Long id, String firstName, String lastName, String email, Role role,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Status status) {
+}
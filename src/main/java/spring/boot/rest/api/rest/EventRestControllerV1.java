@@ -3,16 +3,18 @@ package spring.boot.rest.api.rest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import spring.boot.rest.api.dto.response.EventResponseDto;
+import spring.boot.rest.api.dto.response.PageResponseDto;
 import spring.boot.rest.api.dto.request.EventCreateRequestDto;
 import spring.boot.rest.api.dto.request.EventUpdateRequestDto;
 import spring.boot.rest.api.mapper.EventMapper;
 import spring.boot.rest.api.service.EventService;
 
-import java.util.List;
 import java.util.stream.Collectors;
 
 import static spring.boot.rest.api.util.Constants.*;
@@ -48,17 +50,31 @@ public class EventRestControllerV1 {
     @GetMapping(URL_ID)
     public ResponseEntity<EventResponseDto> findById(@PathVariable(ID) Long id) {
         log.info("IN getById() - getting event by id '{}'", id);
-        final var eventResponseDto = eventMapper.map(eventService.findById(id));
+        final var eventResponseDto = eventMapper.map(eventService.findViewById(id));
         log.info("IN getById() - event with id '{}' found: {} -> SUCCESSFULLY", id, eventResponseDto);
         return new ResponseEntity<>(eventResponseDto, HttpStatus.OK);
     }
 
     @GetMapping
-    public ResponseEntity<List<EventResponseDto>> findAll() {
-        log.info("IN getAll() - getting all events");
-        final var events = eventService.findAll().stream().map(eventMapper::map).toList();
-        log.info("IN getAll() - found {} events: {} -> SUCCESSFULLY", events.size(), events);
-        return new ResponseEntity<>(events, HttpStatus.OK);
+    public ResponseEntity<PageResponseDto<EventResponseDto>> findAll(
+            @RequestParam(value = PARAM_SORT, defaultValue = TEXT_NAME) String sort,
+            @RequestParam(value = PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PARAM_LIMIT, defaultValue = DEFAULT_PAGE_LIMIT) int limit) {
+        log.info("IN getAll() - getting events sorted by '{}'", sort);
+        final var events = eventService.findPage(sort, cursor, limit).map(eventMapper::map);
+        log.info("IN getAll() - found {} events -> SUCCESSFULLY", events.items().size());
+        return new ResponseEntity<>(PageResponseDto.<EventResponseDto>builder()
+                .items(events.items())
+                .nextCursor(events.nextCursor())
+                .build(), HttpStatus.OK);
+    }
+
+    @GetMapping(value = URL_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.info("IN [GET] export() -> exporting all events...");
+        final var events = eventService.export(eventMapper::map);
+        log.info("IN [GET] export() -> streaming events...");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(events);
     }
 
     @DeleteMapping(URL_ID)
@@ -2,6 +2,7 @@ package spring.boot.rest.api.rest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -9,13 +10,21 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import spring.boot.rest.api.config.StorageObject;
 import spring.boot.rest.api.dto.response.FileResponseDto;
+import spring.boot.rest.api.dto.response.PageResponseDto;
+import spring.boot.rest.api.dto.request.FileArchiveRequestDto;
 import spring.boot.rest.api.dto.request.FileDownloadRequestDto;
 import spring.boot.rest.api.dto.request.FileRenameRequestDto;
+import spring.boot.rest.api.dto.request.PresignedUploadCompleteRequestDto;
+import spring.boot.rest.api.dto.request.PresignedUploadRequestDto;
+import spring.boot.rest.api.dto.response.PresignedUrlResponseDto;
 import spring.boot.rest.api.mapper.FileMapper;
 import spring.boot.rest.api.service.FileService;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static spring.boot.rest.api.util.Constants.*;
@@ -38,6 +47,32 @@ public class FileRestControllerV1 {
         return new ResponseEntity<>(uploadedFile, HttpStatus.CREATED);
     }
 
+    @PostMapping(URL_UPLOAD_ASYNC)
+    public CompletableFuture<ResponseEntity<FileResponseDto>> uploadFileAsync(@RequestParam(FILE) MultipartFile file) {
+        log.info("IN [POST] uploadFileAsync() -> uploading file...");
+        return fileService.uploadAsync(file)
+                .thenApply(uploadedFile -> {
+                    log.info("IN [POST] uploadFileAsync() -> file uploaded -> SUCCESSFULLY");
+                    return new ResponseEntity<>(fileMapper.map(uploadedFile), HttpStatus.CREATED);
+                });
+    }
+
+    @PostMapping(URL_PRESIGNED_UPLOAD)
+    public ResponseEntity<PresignedUrlResponseDto> presignUpload(@RequestBody PresignedUploadRequestDto request) {
+        log.info("IN [POST] presignUpload() -> issuing an upload url...");
+        final var presignedUrl = fileMapper.map(fileService.presignUpload(request.getContentLength()));
+        log.info("IN [POST] presignUpload() -> issued the upload url -> SUCCESSFULLY");
+        return new ResponseEntity<>(presignedUrl, HttpStatus.OK);
+    }
+
+    @PostMapping(URL_PRESIGNED_UPLOAD_COMPLETE)
+    public ResponseEntity<FileResponseDto> completePresignedUpload(@RequestBody PresignedUploadCompleteRequestDto request) {
+        log.info("IN [POST] completePresignedUpload() -> registering the uploaded file...");
+        final var uploadedFile = fileMapper.map(fileService.completePresignedUpload(request.getKey(), request.getFileName()));
+        log.info("IN [POST] completePresignedUpload() -> registered the uploaded file -> SUCCESSFULLY");
+        return new ResponseEntity<>(uploadedFile, HttpStatus.CREATED);
+    }
+
     @PutMapping(URL_ID)
     public ResponseEntity<FileResponseDto> updateName(@PathVariable(ID) Long id,
                                                       @RequestBody FileRenameRequestDto request) {
@@ -58,33 +93,74 @@ public class FileRestControllerV1 {
 
     @GetMapping(URL_DOWNLOAD)
     @PreAuthorize("hasAuthority('download:file')")
-    public ResponseEntity<byte[]> downloadFile(@RequestBody FileDownloadRequestDto request) {
-        log.info("IN downloadFile() -> downloading file...");
-        final var fileName = request.getLocation()
-                .substring(request.getLocation().lastIndexOf(SLASH) + ONE);
-        final var fileContent = fileService.download(request.getLocation());
+    public ResponseEntity<StreamingResponseBody> downloadFile(@RequestBody FileDownloadRequestDto request,
+                                                              @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                              @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        log.info("IN downloadFile() -> downloading file with range '{}'...", range);
+        final var fileContent = fileService.download(request.getLocation(), range, ifRange);
+        return toDownloadResponse(fileContent);
+    }
+
+    @GetMapping(URL_DOWNLOAD_ASYNC)
+    @PreAuthorize("hasAuthority('download:file')")
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> downloadFileAsync(@RequestBody FileDownloadRequestDto request,
+                                                                                      @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                                                                                      @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        log.info("IN downloadFileAsync() -> downloading file with range '{}'...", range);
+        return fileService.downloadAsync(request.getLocation(), range, ifRange)
+                .thenApply(this::toDownloadResponse);
+    }
+
+    @GetMapping(URL_DOWNLOAD_ARCHIVE)
+    @PreAuthorize("hasAuthority('download:file')")
+    public ResponseEntity<StreamingResponseBody> downloadArchive(@RequestBody FileArchiveRequestDto request) {
+        log.info("IN downloadArchive() -> downloading files as an archive...");
+        final var archive = fileService.downloadArchive(request.getIds(), request.getLocations(), request.getUserId());
         final var headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        final var filename = ATTACHMENT_FILENAME + fileName;
-        headers.setContentDispositionFormData(filename, filename);
+        headers.setContentType(MediaType.parseMediaType(APPLICATION_ZIP));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(ARCHIVE_FILE_NAME)
+                .build());
         headers.setCacheControl(MUST_REVALIDATE_POST_CHECK_0);
-        log.info("IN downloadFile() -> file downloaded SUCCESSFULLY");
-        return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+        log.info("IN downloadArchive() -> streaming the archive...");
+        return new ResponseEntity<>(archive, headers, HttpStatus.OK);
+    }
+
+    @GetMapping(URL_PRESIGNED_DOWNLOAD)
+    @PreAuthorize("hasAuthority('download:file')")
+    public ResponseEntity<PresignedUrlResponseDto> presignDownload(@RequestBody FileDownloadRequestDto request) {
+        log.info("IN presignDownload() -> issuing a download url...");
+        final var presignedUrl = fileMapper.map(fileService.presignDownload(request.getLocation()));
+        log.info("IN presignDownload() -> issued the download url -> SUCCESSFULLY");
+        return new ResponseEntity<>(presignedUrl, HttpStatus.OK);
     }
 
     @GetMapping()
-    public ResponseEntity<List<FileResponseDto>> findAll() {
-        log.info("IN findAll() -> finding all files...");
-        final var files = fileService.findAll().stream().map(fileMapper::map).toList();
-        log.info("IN findAll() -> found all files SUCCESSFULLY");
-        return new ResponseEntity<>(files, HttpStatus.OK);
+    public ResponseEntity<PageResponseDto<FileResponseDto>> findAll(
+            @RequestParam(value = PARAM_SORT, defaultValue = SORT_CREATED_AT) String sort,
+            @RequestParam(value = PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PARAM_LIMIT, defaultValue = DEFAULT_PAGE_LIMIT) int limit) {
+        log.info("IN findAll() -> finding files sorted by '{}'...", sort);
+        final var files = fileService.findPage(sort, cursor, limit).map(fileMapper::map);
+        log.info("IN findAll() -> found '{}' files SUCCESSFULLY", files.items().size());
+        return new ResponseEntity<>(PageResponseDto.<FileResponseDto>builder()
+                .items(files.items())
+                .nextCursor(files.nextCursor())
+                .build(), HttpStatus.OK);
     }
 
+    @GetMapping(value = URL_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.info("IN [GET] export() -> exporting all files...");
+        final var files = fileService.export(fileMapper::map);
+        log.info("IN [GET] export() -> streaming files...");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(files);
+    }
 
     @GetMapping(URL_ID)
     public ResponseEntity<FileResponseDto> findById(@PathVariable(ID) Long id) {
         log.info("IN [GET] findById() file -> find by id - '{}'...", id);
-        final var fileResponseDto = fileMapper.map(fileService.findById(id));
+        final var fileResponseDto = fileMapper.map(fileService.findViewById(id));
         log.info("IN [GET] findById() file -> found by id - '{}' -> SUCCESSFULLY", id);
         return new ResponseEntity<>(fileResponseDto, HttpStatus.OK);
     }
@@ -104,4 +180,28 @@ public class FileRestControllerV1 {
         log.info("IN [DELETE] deleteAll() -> delete all files -> SUCCESSFULLY");
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    private ResponseEntity<StreamingResponseBody> toDownloadResponse(StorageObject fileContent) {
+        final var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(fileContent.getFileName(), StandardCharsets.UTF_8)
+                .build());
+        headers.setCacheControl(MUST_REVALIDATE_POST_CHECK_0);
+        headers.set(HttpHeaders.ACCEPT_RANGES, BYTES);
+        headers.setContentLength(fileContent.getContentLength());
+        if (fileContent.getETag() != null) {
+            headers.setETag(fileContent.getETag());
+        }
+        if (fileContent.getLastModified() != null) {
+            headers.setLastModified(fileContent.getLastModified());
+        }
+        if (fileContent.isPartial()) {
+            headers.set(HttpHeaders.CONTENT_RANGE, fileContent.getContentRange());
+            log.info("IN downloadFile() -> streaming range '{}'...", fileContent.getContentRange());
+            return new ResponseEntity<>(fileContent.getBody(), headers, HttpStatus.PARTIAL_CONTENT);
+        }
+        log.info("IN downloadFile() -> streaming file...");
+        return new ResponseEntity<>(fileContent.getBody(), headers, HttpStatus.OK);
+    }
 }
@@ -3,9 +3,12 @@ package spring.boot.rest.api.rest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import spring.boot.rest.api.dto.response.PageResponseDto;
 import spring.boot.rest.api.dto.response.UserResponseDto;
 import spring.boot.rest.api.dto.request.UserUpdateRequestDto;
 import spring.boot.rest.api.dto.response.FileDownloadDTO;
@@ -48,11 +51,25 @@ public class UserRestControllerV1 {
     }
 
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> findAll() {
-        log.info("IN [GET] findAll() -> getting all users");
-        final var users = userService.findAll().stream().map(userMapper::map).toList();
-        log.info("IN [GET] findAll() -> found {} users -> SUCCESSFULLY", users.size());
-        return new ResponseEntity<>(users, HttpStatus.OK);
+    public ResponseEntity<PageResponseDto<UserResponseDto>> findAll(
+            @RequestParam(value = PARAM_SORT, defaultValue = FIELD_NAME_FIRST_NAME) String sort,
+            @RequestParam(value = PARAM_CURSOR, required = false) String cursor,
+            @RequestParam(value = PARAM_LIMIT, defaultValue = DEFAULT_PAGE_LIMIT) int limit) {
+        log.info("IN [GET] findAll() -> getting users sorted by '{}'", sort);
+        final var users = userService.findPage(sort, cursor, limit).map(userMapper::map);
+        log.info("IN [GET] findAll() -> found {} users -> SUCCESSFULLY", users.items().size());
+        return new ResponseEntity<>(PageResponseDto.<UserResponseDto>builder()
+                .items(users.items())
+                .nextCursor(users.nextCursor())
+                .build(), HttpStatus.OK);
+    }
+
+    @GetMapping(value = URL_EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        log.info("IN [GET] export() -> exporting all users...");
+        final var users = userService.export(userMapper::map);
+        log.info("IN [GET] export() -> streaming users...");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(users);
     }
 
     @DeleteMapping(URL_ID)
@@ -0,0 +1,90 @@
+package spring.boot.rest.api.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import spring.boot.rest.api.exception.PasswordHashingUnavailableException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+@Slf4j
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor passwordHashExecutor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public BoundedPasswordEncoder(MeterRegistry meterRegistry,
+                                  @Value("${security.password.strength:12}") int strength,
+                                  @Value("${security.password.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+                                  @Value("${security.password.queue-capacity:64}") int queueCapacity) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.passwordHashExecutor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(PASSWORD_HASH_THREAD_PREFIX),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder(PASSWORD_HASH_METRIC + DURATION_SUFFIX)
+                .tag(OPERATION, ENCODE)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(PASSWORD_HASH_METRIC + DURATION_SUFFIX)
+                .tag(OPERATION, MATCHES)
+                .register(meterRegistry);
+        Gauge.builder(PASSWORD_HASH_METRIC + QUEUE_DEPTH_SUFFIX, passwordHashExecutor, executor -> executor.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        try {
+            return passwordHashExecutor.submit(() -> timer.recordCallable(task)).get();
+        } catch (RejectedExecutionException e) {
+            log.warn("IN submit() -> password hashing queue is full, rejecting...");
+            throw new PasswordHashingUnavailableException(PASSWORD_HASHING_IS_BUSY, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(PASSWORD_HASHING_IS_BUSY, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package spring.boot.rest.api.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,17 +13,16 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import spring.boot.rest.api.jwt.JwtAuthenticationFilter;
 import spring.boot.rest.api.jwt.JwtService;
+import spring.boot.rest.api.jwt.TokenStateService;
+import spring.boot.rest.api.jwt.UserDetailService;
 import spring.boot.rest.api.jwt.impl.JwtServiceImpl;
 import spring.boot.rest.api.jwt.impl.LogoutServiceImpl;
 import spring.boot.rest.api.jwt.impl.UserDetailServiceImpl;
-import spring.boot.rest.api.repository.TokenRepo;
 import spring.boot.rest.api.repository.UserRepo;
 
 import static spring.boot.rest.api.util.Constants.*;
@@ -33,20 +33,22 @@ import static spring.boot.rest.api.util.Constants.*;
 @RequiredArgsConstructor
 public class SecurityConfiguration {
     private final UserRepo userRepo;
-    private final TokenRepo tokenRepo;
+    private final TokenStateService tokenStateService;
     private final LogoutServiceImpl logoutService;
+    private final PasswordEncoder passwordEncoder;
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf().disable()
                 .authorizeHttpRequests()
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(FULL_URL_AUTHENTICATE, FULL_URL_REGISTER).permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(new JwtAuthenticationFilter(jwtService(), userDetailsService(), tokenRepo), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService(), userDetailsService(), tokenStateService), UsernamePasswordAuthenticationFilter.class)
                 .logout()
                 .logoutUrl(URL_API_V1_AUTH_LOGOUT)
                 .addLogoutHandler(logoutService)
@@ -56,7 +58,7 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public UserDetailsService userDetailsService(){
+    public UserDetailService userDetailsService(){
         return new UserDetailServiceImpl(userRepo);
     }
 
@@ -69,7 +71,8 @@ public class SecurityConfiguration {
     public AuthenticationProvider authenticationProvider() {
         final var authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsService());
         return authProvider;
     }
 
@@ -77,10 +80,5 @@ public class SecurityConfiguration {
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
-
-    @Bean
-    protected PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
-    }
 }
 
@@ -0,0 +1,17 @@
+package spring.boot.rest.api.service;
+
+import org.springframework.core.io.InputStreamSource;
+import spring.boot.rest.api.model.Blob;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+public interface BlobService {
+    Blob store(InputStreamSource content, long size) throws IOException;
+    Optional<Blob> acquire(byte[] sha256);
+    Blob register(byte[] sha256, String bucketName, String key, String location, long size);
+    void release(Blob blob);
+    void releaseAll(List<Long> fileIds);
+    String newKey();
+}
@@ -1,6 +1,14 @@
 package spring.boot.rest.api.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import spring.boot.rest.api.model.Event;
+import spring.boot.rest.api.repository.projection.EventView;
+import spring.boot.rest.api.service.page.CursorPage;
+
+import java.util.function.Function;
 
 public interface EventService extends GenericService<Event, Long> {
+    EventView findViewById(Long id);
+    CursorPage<EventView> findPage(String sort, String cursor, int limit);
+    StreamingResponseBody export(Function<EventView, ?> view);
 }
@@ -1,12 +1,30 @@
 package spring.boot.rest.api.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import spring.boot.rest.api.config.PresignedUrl;
+import spring.boot.rest.api.config.StorageObject;
 import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.repository.projection.FileView;
+import spring.boot.rest.api.service.page.CursorPage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 public interface FileService extends GenericService<File, Long> {
     File upload(MultipartFile newFile);
-    byte[] download(String location);
+    StorageObject download(String location, String range, String ifRange);
+    CompletableFuture<File> uploadAsync(MultipartFile newFile);
+    CompletableFuture<StorageObject> downloadAsync(String location, String range, String ifRange);
+    StreamingResponseBody downloadArchive(List<Long> ids, List<String> locations, Long userId);
+    PresignedUrl presignUpload(long contentLength);
+    File completePresignedUpload(String key, String fileName);
+    PresignedUrl presignDownload(String location);
     File updateName(Long id, String newFileName);
     File updateFileContent(Long id, MultipartFile newFile);
     File checkIfFileExists(Long id);
+    FileView findViewById(Long id);
+    CursorPage<FileView> findPage(String sort, String cursor, int limit);
+    StreamingResponseBody export(Function<FileView, ?> view);
 }
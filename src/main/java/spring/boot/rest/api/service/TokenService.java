@@ -9,4 +9,5 @@ public interface TokenService {
     Token findByToken(String token);
     Token save(Token token);
     void saveAll(List<Token> tokens);
+    int revokeAllByUserId(Long userId);
 }
@@ -1,12 +1,18 @@
 package spring.boot.rest.api.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import spring.boot.rest.api.model.File;
 import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.projection.UserView;
+import spring.boot.rest.api.service.page.CursorPage;
 
 import java.util.List;
+import java.util.function.Function;
 
 public interface UserService extends GenericService<User, Long> {
     List<File> findFiles(Long id);
+    CursorPage<UserView> findPage(String sort, String cursor, int limit);
+    StreamingResponseBody export(Function<UserView, ?> view);
     User checkIfUserExists(Long id);
     boolean currentUserIsModeratorOrAdmin();
 }
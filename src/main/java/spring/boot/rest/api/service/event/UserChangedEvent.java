@@ -0,0 +1,4 @@
+package spring.boot.rest.api.service.event;
+
+public record UserChangedEvent(String email) {
+}
@@ -0,0 +1,6 @@
+package spring.boot.rest.api.service.event;
+
+import java.util.List;
+
+public record UsersChangedEvent(List<Long> ids) {
+}
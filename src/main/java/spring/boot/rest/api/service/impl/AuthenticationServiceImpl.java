@@ -19,6 +19,7 @@ import spring.boot.rest.api.exception.InvalidJwtAuthenticationException;
 import spring.boot.rest.api.exception.NotFoundException;
 import spring.boot.rest.api.jwt.JwtService;
 import spring.boot.rest.api.jwt.JwtUserFactory;
+import spring.boot.rest.api.jwt.TokenStateService;
 import spring.boot.rest.api.model.Role;
 import spring.boot.rest.api.model.Token;
 import spring.boot.rest.api.model.User;
@@ -34,6 +35,7 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static spring.boot.rest.api.util.Constants.BEARER;
 import static spring.boot.rest.api.util.Constants.SEVEN;
+import static spring.boot.rest.api.util.HashUtil.sha256;
 
 @Slf4j
 @Service
@@ -46,6 +48,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final UserRepo userRepo;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final TokenStateService tokenStateService;
     private final AuthenticationManager authenticationManager;
 
     @Override
@@ -98,12 +101,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             throw new InvalidJwtAuthenticationException("Invalid or missing authorization header");
         }
         refreshToken = authHeader.substring(SEVEN);
-        userEmail = jwtService.getUsername(refreshToken);
+        final var claims = jwtService.getAllClaims(refreshToken);
+        userEmail = claims.getSubject();
         if (userEmail != null){
             try {
                 var user = getUserByEmail(userEmail);
                 var userDetails = JwtUserFactory.create(user);
-                if (jwtService.isTokenValid(refreshToken, userDetails)){
+                if (jwtService.isTokenValid(claims, userDetails)){
                     var accessToken = jwtService.createToken(userDetails);
                     revokeAllUserTokens(user);
                     saveUserToken(user, accessToken);
@@ -126,7 +130,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private void saveUserToken(User user, String jwtToken) {
         var token = Token.builder()
                 .user(user)
-                .nameToken(jwtToken)
+                .tokenHash(sha256(jwtToken))
                 .revoked(false)
                 .expired(false)
                 .build();
@@ -134,15 +138,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     private void revokeAllUserTokens(User user){
-        var validUserTokens = tokenService.findAllValidTokensByUserId(user.getId());
-        if (validUserTokens.isEmpty()){
-            return;
-        }
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenService.saveAll(validUserTokens);
+        tokenService.revokeAllByUserId(user.getId());
+        tokenStateService.revokeAllForUser(user.getId());
     }
 
     private User getUserByEmail(String userEmail) {
@@ -0,0 +1,142 @@
+package spring.boot.rest.api.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import spring.boot.rest.api.config.FileStorage;
+import spring.boot.rest.api.config.S3Properties;
+import spring.boot.rest.api.exception.DatabaseOperationException;
+import spring.boot.rest.api.model.Blob;
+import spring.boot.rest.api.repository.BlobRepo;
+import spring.boot.rest.api.service.BlobService;
+import spring.boot.rest.api.service.event.StorageObjectReleasedEvent;
+
+import java.io.IOException;
+import java.security.DigestInputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static java.lang.String.format;
+import static spring.boot.rest.api.util.Constants.*;
+import static spring.boot.rest.api.util.HashUtil.newSha256;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class BlobServiceImpl implements BlobService {
+    private final BlobRepo blobRepo;
+    private final FileStorage fileStorage;
+    private final S3Properties s3Properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Blob store(InputStreamSource content, long size) throws IOException {
+        log.info("IN store() -> uploading and hashing '{}' bytes...", size);
+        final var bucketName = s3Properties.getCustomer();
+        final var key = newKey();
+        final String url;
+        final byte[] digest;
+        try (final var stream = new DigestInputStream(content.getInputStream(), newSha256())) {
+            url = fileStorage.putObject(bucketName, key, stream, size);
+            digest = stream.getMessageDigest().digest();
+        }
+        try {
+            final var existingBlob = acquire(digest);
+            if (existingBlob.isPresent()) {
+                log.info("IN store() -> the content is already stored, dropping the uploaded '{}' -> SUCCESSFULLY", key);
+                eventPublisher.publishEvent(new StorageObjectReleasedEvent(bucketName, key));
+                return existingBlob.get();
+            }
+            final var storedBlob = register(digest, bucketName, key, url, size);
+            log.info("IN store() -> stored the new blob '{}' -> SUCCESSFULLY", storedBlob.getS3Key());
+            return storedBlob;
+        } catch (RuntimeException e) {
+            log.error("IN store() -> can't register the uploaded '{}', deleting it", key, e);
+            deleteQuietly(bucketName, key);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Blob> acquire(byte[] sha256) {
+        try {
+            log.debug("IN acquire() -> looking up the blob by digest...");
+            if (blobRepo.acquireBySha256(sha256, LocalDateTime.now()) == 0) {
+                return Optional.empty();
+            }
+            return blobRepo.findBySha256(sha256);
+        } catch (DataAccessException e) {
+            log.error("IN acquire() -> FAILED", e);
+            throw new DatabaseOperationException(FAILED_TO_ACQUIRE_BLOB, e);
+        }
+    }
+
+    @Override
+    public Blob register(byte[] sha256, String bucketName, String key, String location, long size) {
+        try {
+            log.info("IN register() -> registering the blob '{}'...", key);
+            if (blobRepo.insertOrAcquire(sha256, bucketName, key, location, size, LocalDateTime.now()) != ONE) {
+                log.info("IN register() -> the same content was stored concurrently, dropping '{}'", key);
+                eventPublisher.publishEvent(new StorageObjectReleasedEvent(bucketName, key));
+            }
+            final var blob = blobRepo.findBySha256(sha256)
+                    .orElseThrow(() -> new IllegalStateException(FAILED_TO_REGISTER_BLOB));
+            log.info("IN register() -> registered the blob '{}' -> SUCCESSFULLY", blob.getS3Key());
+            return blob;
+        } catch (DataAccessException e) {
+            log.error("IN register() -> registering the blob '{}' -> FAILED", key, e);
+            throw new DatabaseOperationException(FAILED_TO_REGISTER_BLOB, e);
+        }
+    }
+
+    @Override
+    public void release(Blob blob) {
+        try {
+            log.info("IN release() -> releasing the blob by id - '{}'...", blob.getId());
+            blobRepo.releaseById(blob.getId(), LocalDateTime.now());
+            log.info("IN release() -> released the blob by id - '{}' -> SUCCESSFULLY", blob.getId());
+        } catch (DataAccessException e) {
+            log.error("IN release() -> releasing the blob by id - '{}' -> FAILED", blob.getId(), e);
+            throw new DatabaseOperationException(format(FAILED_TO_RELEASE_BLOB, blob.getId()), e);
+        }
+    }
+
+    @Override
+    public void releaseAll(List<Long> fileIds) {
+        try {
+            log.info("IN releaseAll() -> releasing the blobs of '{}' files...", fileIds.size());
+            final var released = blobRepo.releaseByFileIds(fileIds, LocalDateTime.now());
+            log.info("IN releaseAll() -> released '{}' blobs -> SUCCESSFULLY", released);
+        } catch (DataAccessException e) {
+            log.error("IN releaseAll() -> releasing the blobs of '{}' files -> FAILED", fileIds.size(), e);
+            throw new DatabaseOperationException(format(FAILED_TO_RELEASE_BLOBS, fileIds.size()), e);
+        }
+    }
+
+    @Override
+    public String newKey() {
+        return BLOB_KEY.formatted(UUID.randomUUID());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStorageObjectReleased(StorageObjectReleasedEvent event) {
+        log.info("IN onStorageObjectReleased() -> deleting the object '{}'...", event.key());
+        deleteQuietly(event.bucketName(), event.key());
+    }
+
+    private void deleteQuietly(String bucketName, String key) {
+        try {
+            fileStorage.deleteObject(bucketName, key);
+        } catch (RuntimeException e) {
+            log.warn("IN deleteQuietly() -> can't delete the object '{}' -> FAILED", key, e);
+        }
+    }
+}
@@ -2,25 +2,36 @@ package spring.boot.rest.api.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import spring.boot.rest.api.config.NdjsonStreamer;
 import spring.boot.rest.api.exception.DatabaseOperationException;
+import spring.boot.rest.api.exception.InvalidPageRequestException;
 import spring.boot.rest.api.exception.NotFoundException;
 import spring.boot.rest.api.model.Event;
 import spring.boot.rest.api.model.Status;
 import spring.boot.rest.api.repository.EventRepo;
+import spring.boot.rest.api.repository.projection.EventView;
 import spring.boot.rest.api.service.EventService;
 import spring.boot.rest.api.service.FileService;
 import spring.boot.rest.api.service.UserService;
+import spring.boot.rest.api.service.page.CursorPage;
+import spring.boot.rest.api.service.page.PageCursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 import static org.springframework.data.domain.Sort.Order.by;
+import static spring.boot.rest.api.util.BatchUtil.updateInChunks;
 import static spring.boot.rest.api.util.Constants.*;
 
 @Slf4j
@@ -32,6 +43,10 @@ public class EventServiceImpl implements EventService {
     private final EventRepo eventRepo;
     private final UserService userService;
     private final FileService fileService;
+    private final TransactionTemplate transactionTemplate;
+    private final NdjsonStreamer ndjsonStreamer;
+    @Value("${bulk-delete.batch-size:1000}")
+    private int batchSize;
 
     @Override
     public Event save(Event event) {
@@ -74,6 +89,7 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Event findById(Long id) {
         try {
             log.info("IN findById(id) event -> by id - '{}'...", id);
@@ -87,6 +103,21 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public EventView findViewById(Long id) {
+        try {
+            log.info("IN findViewById(id) event -> by id - '{}'...", id);
+            final var foundEvent = eventRepo.findViewById(id).orElseThrow(() -> new NotFoundException(format(NOT_FOUND_EVENT, id)));
+            log.info("IN findViewById(id) event -> by id - '{}' found SUCCESSFULLY", id);
+            return foundEvent;
+        } catch (DataAccessException e) {
+            log.error("IN findViewById(id) event -> by id - '{}' -> FAILED", id, e);
+            throw new DatabaseOperationException(format(FAILED_TO_FIND_A_EVENT_BY_ID, id), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Event> findAll() {
         try {
             log.info("IN findAll() events ->...");
@@ -99,6 +130,34 @@ public class EventServiceImpl implements EventService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<EventView> findPage(String sort, String cursor, int limit) {
+        try {
+            log.info("IN findPage() events -> sorted by '{}'...", sort);
+            final var after = PageCursor.decode(cursor, sort);
+            final var pageable = CursorPage.lookahead(limit);
+            final var page = switch (sort) {
+                case TEXT_NAME -> CursorPage.of(eventRepo.findPageByName(after.stringValue(), after.id(), pageable), limit,
+                        event -> PageCursor.after(sort, event.id(), event.name()));
+                case SORT_CREATED_AT -> CursorPage.of(eventRepo.findPageByCreatedAt(after.timestampValue(), after.id(), pageable), limit,
+                        event -> PageCursor.after(sort, event.id(), event.createdAt()));
+                default -> throw new InvalidPageRequestException(format(UNSUPPORTED_SORT_KEY, sort));
+            };
+            log.info("IN findPage() events -> found '{}' events -> SUCCESSFULLY", page.items().size());
+            return page;
+        } catch (DataAccessException e) {
+            log.error("IN findPage() events -> sorted by '{}' -> FAILED", sort, e);
+            throw new DatabaseOperationException(format(FAILED_TO_FIND_PAGE, sort), e);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody export(Function<EventView, ?> view) {
+        log.info("IN export() events -> exporting all events...");
+        return ndjsonStreamer.stream(eventRepo::streamAll, view);
+    }
+
     @Override
     public void deleteById(Long id) {
         log.info("IN deleteById(id) event -> delete by id - '{}'...", id);
@@ -114,17 +173,13 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAll() {
         log.info("IN deleteAll() events -> ...");
         try {
-            final var events = this.findAll();
-            events.stream()
-                    .filter(eventDTO -> eventDTO.getStatus().equals(Status.ACTIVE))
-                    .forEach(eventDTO -> {
-                        eventDTO.setStatus(Status.DELETED);
-                        this.deleteById(eventDTO.getId());
-                    });
-            log.info("IN deleteAll() events -> SUCCESSFULLY");
+            final var deleted = updateInChunks(transactionTemplate, batchSize, eventRepo::findActiveIdsAfter,
+                    ids -> eventRepo.markDeletedByIds(ids, LocalDateTime.now()));
+            log.info("IN deleteAll() events -> deleted '{}' events -> SUCCESSFULLY", deleted);
         } catch (DataAccessException e) {
             log.error("IN deleteAll() events -> FAILED");
             throw new DatabaseOperationException(FAILED_TO_DELETE_ALL_EVENTS, e);
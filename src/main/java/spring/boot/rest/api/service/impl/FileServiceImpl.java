@@ -2,39 +2,75 @@ package spring.boot.rest.api.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import spring.boot.rest.api.config.ArchiveEntry;
+import spring.boot.rest.api.config.ArchiveProperties;
+import spring.boot.rest.api.config.FileStorage;
+import spring.boot.rest.api.config.NdjsonStreamer;
+import spring.boot.rest.api.config.PresignedUrl;
+import spring.boot.rest.api.config.S3AsyncService;
 import spring.boot.rest.api.config.S3Properties;
-import spring.boot.rest.api.config.S3Service;
+import spring.boot.rest.api.config.StorageObject;
+import spring.boot.rest.api.config.ZipArchiveStreamer;
+import spring.boot.rest.api.exception.ConflictException;
 import spring.boot.rest.api.exception.DatabaseOperationException;
 import spring.boot.rest.api.exception.FileException;
+import spring.boot.rest.api.exception.InvalidPageRequestException;
 import spring.boot.rest.api.exception.NotFoundException;
 import spring.boot.rest.api.exception.NotImplementException;
-import spring.boot.rest.api.model.Event;
+import spring.boot.rest.api.model.Blob;
 import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.model.PresignedUpload;
 import spring.boot.rest.api.model.Status;
 import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.EventRepo;
 import spring.boot.rest.api.repository.FileRepo;
+import spring.boot.rest.api.repository.PresignedUploadRepo;
 import spring.boot.rest.api.repository.UserRepo;
+import spring.boot.rest.api.repository.projection.FileView;
+import spring.boot.rest.api.service.BlobService;
 import spring.boot.rest.api.service.FileService;
 import spring.boot.rest.api.service.UserService;
+import spring.boot.rest.api.service.event.StorageObjectReleasedEvent;
+import spring.boot.rest.api.service.page.CursorPage;
+import spring.boot.rest.api.service.page.PageCursor;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.springframework.data.domain.Sort.Order.by;
 import static spring.boot.rest.api.model.Status.ACTIVE;
+import static spring.boot.rest.api.util.BatchUtil.updateInChunks;
 import static spring.boot.rest.api.util.Constants.*;
+import static spring.boot.rest.api.util.HashUtil.newSha256;
 
 @Slf4j
 @Service
@@ -42,11 +78,22 @@ import static spring.boot.rest.api.util.Constants.*;
 @RequiredArgsConstructor
 public class FileServiceImpl implements FileService {
     private final S3Properties s3Properties;
-    private final S3Service s3Service;
+    private final FileStorage fileStorage;
     private final FileRepo fileRepo;
+    private final EventRepo eventRepo;
     private final UserService userService;
     private final UserRepo userRepo;
-
+    private final PresignedUploadRepo presignedUploadRepo;
+    private final ObjectProvider<S3AsyncService> s3AsyncService;
+    private final BlobService blobService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ZipArchiveStreamer archiveStreamer;
+    private final ArchiveProperties archiveProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final Executor applicationTaskExecutor;
+    @Value("${bulk-delete.batch-size:1000}")
+    private int batchSize;
 
     @Override
     public File save(File file) {
@@ -67,6 +114,7 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public File findById(Long id) {
         log.info("IN findById() file -> find by id - '{}'...", id);
         final var file = checkIfFileExists(id);
@@ -75,6 +123,22 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public FileView findViewById(Long id) {
+        try {
+            log.info("IN findViewById() file -> find by id - '{}'...", id);
+            final var file = fileRepo.findViewById(id)
+                    .orElseThrow(() -> new NotFoundException(format(NOT_FOUND_FILE, id)));
+            log.info("IN findViewById() file -> found by id - '{}' -> SUCCESSFULLY", id);
+            return file;
+        } catch (DataAccessException e) {
+            log.error("IN findViewById() file -> find by id - '{}' -> FAILED", id, e);
+            throw new DatabaseOperationException(format(DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE, id), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<File> findAll() {
         try {
             log.info("IN findAll() -> processing...");
@@ -87,13 +151,52 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<FileView> findPage(String sort, String cursor, int limit) {
+        try {
+            log.info("IN findPage() files -> sorted by '{}'...", sort);
+            final var after = PageCursor.decode(cursor, sort);
+            final var pageable = CursorPage.lookahead(limit);
+            final var page = switch (sort) {
+                case SORT_CREATED_AT -> CursorPage.of(fileRepo.findPageByCreatedAt(after.timestampValue(), after.id(), pageable), limit,
+                        file -> PageCursor.after(sort, file.id(), file.createdAt()));
+                case TEXT_NAME -> CursorPage.of(fileRepo.findPageByName(after.stringValue(), after.id(), pageable), limit,
+                        file -> PageCursor.after(sort, file.id(), file.name()));
+                default -> throw new InvalidPageRequestException(format(UNSUPPORTED_SORT_KEY, sort));
+            };
+            log.info("IN findPage() files -> found '{}' files -> SUCCESSFULLY", page.items().size());
+            return page;
+        } catch (DataAccessException e) {
+            log.error("IN findPage() files -> sorted by '{}' -> FAILED", sort, e);
+            throw new DatabaseOperationException(format(FAILED_TO_FIND_PAGE, sort), e);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody export(Function<FileView, ?> view) {
+        log.info("IN export() files -> exporting all files...");
+        return ndjsonStreamer.stream(fileRepo::streamAll, view);
+    }
+
     @Override
     public void deleteById(Long id) {
         try {
             log.info("IN deleteById() -> deleting the file by id - '{}'...", id);
             final var deleteFile = checkIfFileExists(id);
+            final var wasActive = Objects.equals(deleteFile.getStatus(), ACTIVE);
+            final var now = LocalDateTime.now();
             deleteFile.setStatus(Status.DELETED);
+            deleteFile.setUpdatedAt(now);
+            if (wasActive) {
+                deleteFile.setDeletedAt(now);
+            }
             fileRepo.save(deleteFile);
+            if (deleteFile.getBlob() == null) {
+                fileStorage.evictFromCache(deleteFile.getS3Bucket(), deleteFile.getS3Secret());
+            } else if (wasActive) {
+                blobService.release(deleteFile.getBlob());
+            }
             log.info("IN deleteById() -> deleting the file by id - '{}' -> SUCCESSFULLY", id);
         } catch (DataAccessException e) {
             log.error("IN deleteById() -> deleting the file by id - '{}' -> FAILED", id);
@@ -102,17 +205,17 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAll() {
         try {
             log.info("IN deleteAll() -> delete all files...");
-            final var fileList = this.findAll();
-            fileList.stream()
-                    .filter(file -> file.getStatus().equals(ACTIVE))
-                    .forEach(file -> {
-                        file.setStatus(Status.DELETED);
-                        this.deleteById(file.getId());
-                    });
-            log.info("IN deleteAll() -> delete all files -> SUCCESSFULLY");
+            final var deleted = updateInChunks(transactionTemplate, batchSize, fileRepo::findActiveIdsAfter, ids -> {
+                blobService.releaseAll(ids);
+                fileRepo.markDeletedByIds(ids, LocalDateTime.now());
+                fileRepo.findLegacyObjectsByIds(ids)
+                        .forEach(object -> fileStorage.evictFromCache(object.s3Bucket(), object.s3Secret()));
+            });
+            log.info("IN deleteAll() -> deleted '{}' files -> SUCCESSFULLY", deleted);
         } catch (DataAccessException e) {
             log.error("IN deleteAll() -> delete all files -> FAILED");
             throw new DatabaseOperationException(FAILED_TO_DELETE_ALL_FILES, e);
@@ -131,23 +234,102 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
-    public byte[] download(String location) {
+    public StorageObject download(String location, String range, String ifRange) {
         try {
-            return processingDownloadFile(location);
+            return processingDownloadFile(location, range, ifRange);
         } catch (S3Exception e) {
             throw new FileException(ERROR_DOWNLOAD_FILE_WITH_AWS_S3, e);
         }
     }
 
     @Override
-    public File updateName(Long id, String newFileName) {
+    public CompletableFuture<File> uploadAsync(MultipartFile file) {
+        final var asyncService = s3AsyncService.getIfAvailable();
+        if (asyncService == null) {
+            log.info("IN uploadAsync() -> async S3 backend is disabled, uploading synchronously...");
+            return CompletableFuture.completedFuture(upload(file));
+        }
+        try {
+            return translateS3Failure(processingUploadFileAsync(asyncService, file), ERROR_UPLOAD_FILE_TO_AWS_S3);
+        } catch (IOException e) {
+            throw new FileException(ERROR_READ_FILE, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<StorageObject> downloadAsync(String location, String range, String ifRange) {
+        final var asyncService = s3AsyncService.getIfAvailable();
+        if (asyncService == null) {
+            log.info("IN downloadAsync() -> async S3 backend is disabled, downloading synchronously...");
+            return CompletableFuture.completedFuture(download(location, range, ifRange));
+        }
+        log.info("IN downloadAsync() file by location -> '{}'...", location);
+        final var file = findDownloadable(location);
+        return translateS3Failure(asyncService.getObject(objectBucket(file), objectKey(file), range, ifRange),
+                ERROR_DOWNLOAD_FILE_WITH_AWS_S3)
+                .thenApply(fileContent -> fileContent.toBuilder().fileName(file.getName()).build());
+    }
+
+    @Override
+    public StreamingResponseBody downloadArchive(List<Long> ids, List<String> locations, Long userId) {
+        log.info("IN downloadArchive() -> collecting files...");
+        final var requestedLocations = new LinkedHashSet<String>();
+        if (ids != null) {
+            ids.forEach(id -> requestedLocations.add(checkIfFileExists(id).getLocation()));
+        }
+        if (locations != null) {
+            requestedLocations.addAll(locations);
+        }
+        if (userId != null) {
+            userService.findFiles(userId).forEach(file -> requestedLocations.add(file.getLocation()));
+        }
+        if (requestedLocations.isEmpty()) {
+            throw new FileException(NOTHING_TO_ARCHIVE);
+        }
+        if (requestedLocations.size() > archiveProperties.getMaxEntries()) {
+            throw new FileException(format(TOO_MANY_FILES_TO_ARCHIVE, archiveProperties.getMaxEntries()));
+        }
+        final var entries = requestedLocations.stream()
+                .map(this::findDownloadable)
+                .map(file -> new ArchiveEntry(file.getName(), objectBucket(file), objectKey(file)))
+                .toList();
+        log.info("IN downloadArchive() -> collected '{}' files -> SUCCESSFULLY", entries.size());
+        return archiveStreamer.stream(entries);
+    }
+
+    @Override
+    public PresignedUrl presignUpload(long contentLength) {
+        log.info("IN presignUpload() -> issuing an upload url for '{}' bytes...", contentLength);
+        final var bucketName = s3Properties.getCustomer();
+        final var presignedUrl = fileStorage.presignPutObject(bucketName, getUUIDRandomKey(), contentLength);
+        reserveUpload(bucketName, presignedUrl);
+        log.info("IN presignUpload() -> issued the upload url for the key '{}' -> SUCCESSFULLY", presignedUrl.getKey());
+        return presignedUrl;
+    }
+
+    @Override
+    public File completePresignedUpload(String key, String fileName) {
         try {
-            return processingUpdateName(id, newFileName);
+            return processingCompletePresignedUpload(key, fileName);
         } catch (S3Exception e) {
             throw new FileException(ERROR_UPLOAD_FILE_TO_AWS_S3, e);
         }
     }
 
+    @Override
+    public PresignedUrl presignDownload(String location) {
+        log.info("IN presignDownload() file by location -> '{}'...", location);
+        final var file = findDownloadable(location);
+        final var presignedUrl = fileStorage.presignGetObject(objectBucket(file), objectKey(file), file.getName());
+        log.info("IN presignDownload() file by location -> '{}' -> issued SUCCESSFULLY", location);
+        return presignedUrl;
+    }
+
+    @Override
+    public File updateName(Long id, String newFileName) {
+        return processingUpdateName(id, newFileName);
+    }
+
     @Override
     public File updateFileContent(Long id, MultipartFile newFile) {
         try {
@@ -176,13 +358,21 @@ public class FileServiceImpl implements FileService {
         log.info("IN updateFileContent() -> processing...");
 
         final var existFile = this.checkIfFileExists(id);
+        final var previousBlob = existFile.getBlob();
+        final var legacyKey = existFile.getS3Secret();
 
-        s3Service.putObject(s3Properties.getCustomer(), existFile.getS3Secret(), newFile.getBytes());
-
+        existFile.setBlob(blobService.store(newFile, newFile.getSize()));
+        existFile.setS3Secret(null);
         existFile.setUpdatedAt(LocalDateTime.now());
 
         final var savedFile = this.save(existFile);
 
+        if (previousBlob != null) {
+            blobService.release(previousBlob);
+        } else {
+            eventPublisher.publishEvent(new StorageObjectReleasedEvent(s3Properties.getCustomer(), legacyKey));
+        }
+
         log.info("IN updateFileContent() -> updated the file SUCCESSFULLY");
 
         return savedFile;
@@ -191,22 +381,16 @@ public class FileServiceImpl implements FileService {
     private File processingUploadFile(MultipartFile file) throws IOException {
         log.info("IN upload() file -> '{}'...", file.getOriginalFilename());
         final var fileName = file.getOriginalFilename();
-        final var profileFileId = getUUIDRandomKey();
-        final var s3Secret = S3_SECRET_KEY.formatted(profileFileId, fileName);
 
-        log.debug("IN upload() file -> uploading to AWS...");
-        final var url = s3Service.putObject(
-                s3Properties.getCustomer(),
-                s3Secret,
-                file.getBytes()
-        );
-        log.debug("IN upload() file -> upload to AWS -> SUCCESSFULLY");
+        log.debug("IN upload() file -> storing the content...");
+        final var blob = blobService.store(file, file.getSize());
+        log.debug("IN upload() file -> stored the content -> SUCCESSFULLY");
 
         final var uploadedFile = File.builder()
                 .name(fileName)
-                .s3Secret(s3Secret)
                 .s3Bucket(s3Properties.getCustomer())
-                .location(url)
+                .location(getUUIDRandomKey())
+                .blob(blob)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .status(ACTIVE).build();
@@ -218,23 +402,168 @@ public class FileServiceImpl implements FileService {
         return savedFile;
     }
 
-    private File processingUpdateName(Long id, String newFileName) {
-        log.info("IN updateName() -> processing...");
-        final var existingFile = this.findById(id);
+    private CompletableFuture<File> processingUploadFileAsync(S3AsyncService asyncService, MultipartFile file) throws IOException {
+        log.info("IN uploadAsync() file -> '{}'...", file.getOriginalFilename());
+        final var fileName = file.getOriginalFilename();
+        final var bucketName = s3Properties.getCustomer();
+        final var size = file.getSize();
+        final var source = Files.createTempFile(UPLOAD_TEMP_PREFIX, UPLOAD_TEMP_SUFFIX);
+        final byte[] digest;
+        try (final var content = new DigestInputStream(file.getInputStream(), newSha256())) {
+            Files.copy(content, source, REPLACE_EXISTING);
+            digest = content.getMessageDigest().digest();
+        } catch (IOException e) {
+            Files.deleteIfExists(source);
+            throw e;
+        }
+        final var callbackExecutor = new DelegatingSecurityContextExecutor(applicationTaskExecutor);
+        final var blob = blobService.acquire(digest)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> {
+                    final var key = blobService.newKey();
+                    return asyncService.putObject(bucketName, key, source)
+                            .thenApplyAsync(url -> registerUploadedBlob(asyncService, digest, bucketName, key, url, size),
+                                    callbackExecutor);
+                });
+        return blob
+                .thenApplyAsync(storedBlob -> saveUploadedFile(storedBlob, fileName, bucketName), callbackExecutor)
+                .whenComplete((savedFile, e) -> deleteTempFile(source));
+    }
 
-        final var newS3Secret = S3_SECRET_KEY.formatted(getUUIDRandomKey(), newFileName);
+    private Blob registerUploadedBlob(S3AsyncService asyncService, byte[] digest, String bucketName, String key,
+                                      String url, long size) {
+        try {
+            return transactionTemplate.execute(status -> blobService.register(digest, bucketName, key, url, size));
+        } catch (RuntimeException e) {
+            log.error("IN uploadAsync() file -> can't register the blob '{}', deleting the uploaded object", key, e);
+            asyncService.deleteObject(bucketName, key);
+            throw e;
+        }
+    }
 
-        log.info("IN updateName() -> copyObject()...");
+    private File saveUploadedFile(Blob blob, String fileName, String bucketName) {
+        try {
+            final var savedFile = transactionTemplate.execute(status -> this.save(File.builder()
+                    .name(fileName)
+                    .s3Bucket(bucketName)
+                    .location(getUUIDRandomKey())
+                    .blob(blob)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .status(ACTIVE).build()));
+            log.info("IN uploadAsync() file -> uploaded file '{}' -> SUCCESSFULLY", fileName);
+            return savedFile;
+        } catch (RuntimeException e) {
+            log.error("IN uploadAsync() file -> can't save file '{}', releasing the blob by id - '{}'", fileName, blob.getId(), e);
+            try {
+                blobService.release(blob);
+            } catch (RuntimeException releaseFailure) {
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+    }
 
-        final var url = s3Service.copyObject(s3Properties.getCustomer(), existingFile.getS3Secret(), s3Properties.getCustomer(), newS3Secret);
+    private <T> CompletableFuture<T> translateS3Failure(CompletableFuture<T> future, String message) {
+        return future.exceptionally(e -> {
+            final var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof S3Exception) {
+                throw new FileException(message, cause);
+            }
+            throw e instanceof CompletionException completionException ? completionException : new CompletionException(cause);
+        });
+    }
 
-        log.info("IN updateName() -> deleteObject()...");
+    private void deleteTempFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("IN deleteTempFile() -> can't delete the temp file '{}'", path, e);
+        }
+    }
 
-        s3Service.deleteObject(s3Properties.getCustomer(), existingFile.getS3Secret());
+    private File processingCompletePresignedUpload(String key, String fileName) {
+        log.info("IN completePresignedUpload() -> key '{}', file '{}'...", key, fileName);
+        if (!isIssuedKey(key)) {
+            throw new FileException(format(INVALID_UPLOAD_KEY, key));
+        }
+        final var currentUser = findCurrentUser();
+        try {
+            if (presignedUploadRepo.claim(key, currentUser.getId()) == 0) {
+                if (fileRepo.existsByS3Secret(key)) {
+                    throw new ConflictException(format(UPLOAD_ALREADY_COMPLETED, key));
+                }
+                throw new FileException(format(INVALID_UPLOAD_KEY, key));
+            }
+        } catch (DataAccessException e) {
+            log.error("IN completePresignedUpload() -> key '{}' -> FAILED", key, e);
+            throw new DatabaseOperationException(format(DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE_BY_KEY, key), e);
+        }
+        final var bucketName = s3Properties.getCustomer();
+        fileStorage.getObjectSize(bucketName, key)
+                .orElseThrow(() -> new NotFoundException(format(UPLOADED_OBJECT_NOT_FOUND, key)));
+
+        final File savedFile;
+        try {
+            savedFile = fileRepo.save(File.builder()
+                    .name(fileName)
+                    .s3Secret(key)
+                    .s3Bucket(bucketName)
+                    .location(fileStorage.getObjectUrl(bucketName, key))
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .status(ACTIVE).build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("IN completePresignedUpload() -> key '{}' was completed concurrently", key);
+            throw new ConflictException(format(UPLOAD_ALREADY_COMPLETED, key), e);
+        } catch (DataAccessException e) {
+            log.error("IN completePresignedUpload() -> saving file '{}' -> FAILED", fileName, e);
+            throw new DatabaseOperationException(FAILED_TO_SAVE_FILE, e);
+        }
+        log.info("IN completePresignedUpload() -> registered the file '{}' -> SUCCESSFULLY", fileName);
+        return savedFile;
+    }
+
+    private void reserveUpload(String bucketName, PresignedUrl presignedUrl) {
+        try {
+            presignedUploadRepo.save(PresignedUpload.builder()
+                    .s3Bucket(bucketName)
+                    .s3Key(presignedUrl.getKey())
+                    .user(findCurrentUser())
+                    .expiresAt(LocalDateTime.ofInstant(presignedUrl.getExpiresAt(), ZoneId.systemDefault()))
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .status(ACTIVE).build());
+        } catch (DataAccessException e) {
+            log.error("IN presignUpload() -> reserving the key '{}' -> FAILED", presignedUrl.getKey(), e);
+            throw new DatabaseOperationException(format(FAILED_TO_RESERVE_UPLOAD, presignedUrl.getKey()), e);
+        }
+    }
+
+    private User findCurrentUser() {
+        final var userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
+        try {
+            return userRepo.findByEmail(userEmail)
+                    .orElseThrow(() -> new NotFoundException(USER_NOT_EXISTS));
+        } catch (DataAccessException e) {
+            log.error("IN findCurrentUser() -> by email - '{}' -> FAILED", userEmail, e);
+            throw new DatabaseOperationException(FAILED_TO_FIND_USER_BY_EMAIL, e);
+        }
+    }
+
+    private boolean isIssuedKey(String key) {
+        try {
+            return key != null && UUID.fromString(key).toString().equals(key);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private File processingUpdateName(Long id, String newFileName) {
+        log.info("IN updateName() -> processing...");
+        final var existingFile = this.findById(id);
 
         existingFile.setName(newFileName);
-        existingFile.setS3Secret(newS3Secret);
-        existingFile.setLocation(url);
         existingFile.setUpdatedAt(LocalDateTime.now());
 
         log.info("IN updateName() -> save()...");
@@ -246,35 +575,60 @@ public class FileServiceImpl implements FileService {
         return savedFile;
     }
 
-    private byte[] processingDownloadFile(String location) {
+    private StorageObject processingDownloadFile(String location, String range, String ifRange) {
         log.info("IN download() file by location -> '{}'...", location);
-        final var allFiles = this.findAll();
+        final var file = findDownloadable(location);
+        final var fileContent = fileStorage.getObject(objectBucket(file), objectKey(file), range, ifRange)
+                .toBuilder()
+                .fileName(file.getName())
+                .build();
+        log.info("IN download() file by location -> '{}' -> downloaded SUCCESSFULLY", location);
+        return fileContent;
+    }
+
+    private File findDownloadable(String location) {
+        return userService.currentUserIsModeratorOrAdmin()
+                ? findByLocation(location)
+                : findOwnedByCurrentUser(location);
+    }
+
+    private String objectBucket(File file) {
+        return file.getBlob() == null ? s3Properties.getCustomer() : file.getBlob().getS3Bucket();
+    }
+
+    private String objectKey(File file) {
+        return file.getBlob() == null ? file.getS3Secret() : file.getBlob().getS3Key();
+    }
+
+    private File findOwnedByCurrentUser(String location) {
         final var userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        final Optional<User> isExistsUser = Optional.ofNullable(userRepo.findByEmail(userEmail).orElseThrow(() -> new NotFoundException("User not exists")));
-
-        if (!userService.currentUserIsModeratorOrAdmin()) {
-            if (isExistsUser.isPresent() && Objects.equals(isExistsUser.get().getStatus(), ACTIVE)) {
-                final var file = isExistsUser.get().getEvents()
-                        .stream()
-                        .map(Event::getFile)
-                        .filter(f -> Objects.equals(f.getLocation(),location) && Objects.equals(f.getStatus(), ACTIVE))
-                        .findFirst()
-                        .orElseThrow(() -> new NotFoundException(FILE_NOT_EXISTS));
-                final var fileContent = s3Service.getObject(s3Properties.getCustomer(), file.getS3Secret());
-                log.info("IN download() file by location -> '{}' -> downloaded SUCCESSFULLY", location);
-                return fileContent;
-            }else {
-                throw new NotFoundException(USER_IS_DELETED);
+        try {
+            log.info("IN findOwnedByCurrentUser() file -> by location - '{}'...", location);
+            if (!eventRepo.existsActiveFileByUserEmailAndLocation(userEmail, location)) {
+                final var user = userRepo.findByEmail(userEmail)
+                        .orElseThrow(() -> new NotFoundException(USER_NOT_EXISTS));
+                throw new NotFoundException(Objects.equals(user.getStatus(), ACTIVE) ? FILE_NOT_EXISTS : USER_IS_DELETED);
             }
-        }else {
-                final var file = allFiles
-                        .stream()
-                        .filter(f -> Objects.equals(f.getLocation(), location))
-                        .findFirst()
-                        .orElseThrow(() -> new NotFoundException("File not exists!"));
-                final var fileContent = s3Service.getObject(s3Properties.getCustomer(), file.getS3Secret());
-                log.info("IN download() file by location -> '{}' -> downloaded SUCCESSFULLY", location);
-                return fileContent;
+            final var foundFile = fileRepo.findFirstByLocationAndStatus(location, ACTIVE)
+                    .orElseThrow(() -> new NotFoundException(FILE_NOT_EXISTS));
+            log.info("IN findOwnedByCurrentUser() file -> by location - '{}' -> found SUCCESSFULLY", location);
+            return foundFile;
+        } catch (DataAccessException e) {
+            log.error("IN findOwnedByCurrentUser() file -> by location - '{}' -> FAILED", location, e);
+            throw new DatabaseOperationException(format(DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE_BY_LOCATION, location), e);
+        }
+    }
+
+    private File findByLocation(String location) {
+        try {
+            log.info("IN findByLocation() file -> by location - '{}'...", location);
+            final var foundFile = fileRepo.findFirstByLocation(location)
+                    .orElseThrow(() -> new NotFoundException(FILE_NOT_EXISTS));
+            log.info("IN findByLocation() file -> by location - '{}' -> found SUCCESSFULLY", location);
+            return foundFile;
+        } catch (DataAccessException e) {
+            log.error("IN findByLocation() file -> by location - '{}' -> FAILED", location, e);
+            throw new DatabaseOperationException(format(DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE_BY_LOCATION, location), e);
         }
     }
 
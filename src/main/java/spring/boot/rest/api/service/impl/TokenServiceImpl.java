@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static spring.boot.rest.api.util.Constants.FAILED_TO_FIND_TOKEN;
+import static spring.boot.rest.api.util.HashUtil.sha256;
 
 @Slf4j
 @Service
@@ -33,7 +34,7 @@ public class TokenServiceImpl implements TokenService {
     @Override
     public Token findByToken(String token) {
         log.info("IN findByToken() -> finding token...");
-        final var result = tokenRepo.findByNameToken(token)
+        final var result = tokenRepo.findByTokenHash(sha256(token))
                 .orElseThrow(() -> new NotFoundException(FAILED_TO_FIND_TOKEN));
         log.info("IN findByToken() -> finding token... -> SUCCESSFULLY");
         return result;
@@ -59,9 +60,17 @@ public class TokenServiceImpl implements TokenService {
         log.info("IN saveAll() -> saving all tokens... -> seved all tokens SUCCESSFULLY");
     }
 
+    @Override
+    public int revokeAllByUserId(Long userId) {
+        log.info("IN revokeAllByUserId() -> revoking all tokens by user id - {}...", userId);
+        final var revoked = tokenRepo.revokeAllByUserId(userId, LocalDateTime.now());
+        log.info("IN revokeAllByUserId() -> revoked '{}' tokens by user id - {} -> SUCCESSFULLY", revoked, userId);
+        return revoked;
+    }
+
     private void isExistsToken(Token token) {
-        if (token.getId() != null){
-            this.findByToken(token.getNameToken());
+        if (token.getId() != null && !tokenRepo.existsById(token.getId())){
+            throw new NotFoundException(FAILED_TO_FIND_TOKEN);
         }
     }
 }
@@ -2,26 +2,40 @@ package spring.boot.rest.api.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import spring.boot.rest.api.config.NdjsonStreamer;
 import spring.boot.rest.api.exception.AccessDeniedException;
 import spring.boot.rest.api.exception.DatabaseOperationException;
+import spring.boot.rest.api.exception.InvalidPageRequestException;
 import spring.boot.rest.api.exception.NotFoundException;
 import spring.boot.rest.api.model.*;
 import spring.boot.rest.api.repository.UserRepo;
+import spring.boot.rest.api.repository.projection.UserView;
 import spring.boot.rest.api.service.UserService;
+import spring.boot.rest.api.service.event.UserChangedEvent;
+import spring.boot.rest.api.service.event.UsersChangedEvent;
+import spring.boot.rest.api.service.page.CursorPage;
+import spring.boot.rest.api.service.page.PageCursor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.springframework.data.domain.Sort.Order.by;
+import static spring.boot.rest.api.util.BatchUtil.updateInChunks;
 import static spring.boot.rest.api.util.Constants.*;
 
 @Slf4j
@@ -31,6 +45,11 @@ import static spring.boot.rest.api.util.Constants.*;
 public class UserServiceImpl implements UserService {
 
     private final UserRepo repo;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final NdjsonStreamer ndjsonStreamer;
+    @Value("${bulk-delete.batch-size:1000}")
+    private int batchSize;
 
     @Override
     public User save(User user) {
@@ -53,6 +72,7 @@ public class UserServiceImpl implements UserService {
     public User update(User user) {
         log.info("IN update() user -> '{}'...", user);
         final var existingUser = checkIfUserExists(user.getId());
+        eventPublisher.publishEvent(new UserChangedEvent(existingUser.getEmail()));
         try {
             updateFieldsIfDifferent(existingUser, user);
             existingUser.setUpdatedAt(LocalDateTime.now());
@@ -66,6 +86,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User findById(Long id) {
         log.info("IN findById() - find user with id '{}'...", id);
         final var user = checkIfUserExists(id);
@@ -77,6 +98,7 @@ public class UserServiceImpl implements UserService {
 
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> findAll() {
         try {
             log.info("IN findAll() users ->...");
@@ -89,6 +111,34 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserView> findPage(String sort, String cursor, int limit) {
+        try {
+            log.info("IN findPage() users -> sorted by '{}'...", sort);
+            final var after = PageCursor.decode(cursor, sort);
+            final var pageable = CursorPage.lookahead(limit);
+            final var page = switch (sort) {
+                case FIELD_NAME_FIRST_NAME -> CursorPage.of(repo.findPageByFirstName(after.stringValue(), after.id(), pageable), limit,
+                        user -> PageCursor.after(sort, user.id(), user.firstName()));
+                case SORT_CREATED_AT -> CursorPage.of(repo.findPageByCreatedAt(after.timestampValue(), after.id(), pageable), limit,
+                        user -> PageCursor.after(sort, user.id(), user.createdAt()));
+                default -> throw new InvalidPageRequestException(format(UNSUPPORTED_SORT_KEY, sort));
+            };
+            log.info("IN findPage() users -> found '{}' users -> SUCCESSFULLY", page.items().size());
+            return page;
+        } catch (DataAccessException e) {
+            log.error("IN findPage() users -> sorted by '{}' -> FAILED", sort, e);
+            throw new DatabaseOperationException(format(FAILED_TO_FIND_PAGE, sort), e);
+        }
+    }
+
+    @Override
+    public StreamingResponseBody export(Function<UserView, ?> view) {
+        log.info("IN export() users -> exporting all users...");
+        return ndjsonStreamer.stream(repo::streamAll, view);
+    }
+
     @Override
     public void deleteById(Long id) {
         log.info("IN deleteById(id) user -> delete by id - '{}'...", id);
@@ -96,6 +146,7 @@ public class UserServiceImpl implements UserService {
         try {
             deleteUser.setStatus(Status.DELETED);
             repo.save(deleteUser);
+            eventPublisher.publishEvent(new UserChangedEvent(deleteUser.getEmail()));
             log.info("IN deleteById(id) user -> delete by id - '{}' -> SUCCESSFULLY", id);
         } catch (DataAccessException e) {
             log.error("IN deleteById(id) user -> delete by id - '{}' -> FAILED", id);
@@ -104,14 +155,15 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAll() {
         log.info("IN deleteAll() users -> ...");
         try {
-            final var foundAllUsers = this.findAll();
-            foundAllUsers.stream()
-                    .filter(user -> user.getStatus().equals(Status.ACTIVE))
-                    .forEach(user -> deleteById(user.getId()));
-            log.info("IN deleteAll() users -> SUCCESSFULLY");
+            final var deleted = updateInChunks(transactionTemplate, batchSize, repo::findActiveIdsAfter, ids -> {
+                repo.markDeletedByIds(ids, LocalDateTime.now());
+                eventPublisher.publishEvent(new UsersChangedEvent(ids));
+            });
+            log.info("IN deleteAll() users -> deleted '{}' users -> SUCCESSFULLY", deleted);
         } catch (DataAccessException e) {
             log.error("IN deleteAll() users -> FAILED");
             throw new DatabaseOperationException(FAILED_TO_DELETE_ALL_USERS, e);
@@ -119,6 +171,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<File> findFiles(Long id) {
         log.info("IN findFiles(id) files -> find files by user id - '{}'...", id);
         final var foundUser = checkIfUserExists(id);
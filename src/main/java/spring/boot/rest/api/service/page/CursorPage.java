@@ -0,0 +1,34 @@
+package spring.boot.rest.api.service.page;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static spring.boot.rest.api.util.Constants.MAX_PAGE_LIMIT;
+import static spring.boot.rest.api.util.Constants.ONE;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static Pageable lookahead(int limit) {
+        return PageRequest.of(0, pageSize(limit) + ONE);
+    }
+
+    public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, PageCursor> cursorOf) {
+        final var pageSize = pageSize(limit);
+        if (fetched.size() <= pageSize) {
+            return new CursorPage<>(fetched, null);
+        }
+        final var items = fetched.subList(0, pageSize);
+        return new CursorPage<>(items, cursorOf.apply(items.get(pageSize - ONE)).encode());
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    private static int pageSize(int limit) {
+        return Math.max(ONE, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+}
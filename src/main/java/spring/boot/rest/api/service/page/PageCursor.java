@@ -0,0 +1,57 @@
+package spring.boot.rest.api.service.page;
+
+import spring.boot.rest.api.exception.InvalidPageRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static spring.boot.rest.api.util.Constants.*;
+
+public record PageCursor(String sort, Long id, String value) {
+
+    private static final LocalDateTime FIRST_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public static PageCursor first(String sort) {
+        return new PageCursor(sort, 0L, null);
+    }
+
+    public static PageCursor after(String sort, Long id, Object value) {
+        return new PageCursor(sort, id, String.valueOf(value));
+    }
+
+    public static PageCursor decode(String cursor, String sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+        try {
+            final var parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split(CURSOR_SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(sort)) {
+                throw new InvalidPageRequestException(INVALID_CURSOR);
+            }
+            return new PageCursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException(INVALID_CURSOR, e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(CURSOR_SEPARATOR, sort, String.valueOf(id), value)
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String stringValue() {
+        return value == null ? "" : value;
+    }
+
+    public LocalDateTime timestampValue() {
+        try {
+            return value == null ? FIRST_TIMESTAMP : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidPageRequestException(INVALID_CURSOR, e);
+        }
+    }
+}
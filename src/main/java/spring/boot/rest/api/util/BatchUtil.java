@@ -0,0 +1,45 @@
+package spring.boot.rest.api.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static spring.boot.rest.api.util.Constants.ONE;
+import static spring.boot.rest.api.util.Constants.TEXT_UTILITY_CLASS;
+
+public final class BatchUtil {
+
+    private BatchUtil() {
+        throw new IllegalStateException(TEXT_UTILITY_CLASS);
+    }
+
+    public static long updateInChunks(TransactionTemplate transactionTemplate, int batchSize,
+                                      BiFunction<Long, Pageable, List<Long>> findIds,
+                                      Consumer<List<Long>> update) {
+        var updated = 0L;
+        var afterId = 0L;
+        while (true) {
+            final var lastId = afterId;
+            final var ids = transactionTemplate.execute(status -> {
+                final var chunk = findIds.apply(lastId, PageRequest.of(0, batchSize));
+                if (!chunk.isEmpty()) {
+                    update.accept(chunk);
+                }
+                return chunk;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            updated += ids.size();
+            afterId = ids.get(ids.size() - ONE);
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return updated;
+    }
+}
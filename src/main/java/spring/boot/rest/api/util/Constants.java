@@ -14,6 +14,8 @@ public final class Constants {
     public static final String DATABASE_OPERATION_ERROR_FAILED_TO_FIND_USER = DATABASE_OPERATION_ERROR + "Failed to find user by id - %d";
     public static final String DATABASE_OPERATION_ERROR_FAILED_TO_FIND_EVENT = DATABASE_OPERATION_ERROR + "Failed to find event by id - %d";
     public static final String DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE = DATABASE_OPERATION_ERROR + "Failed to find file by id - %d";
+    public static final String DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE_BY_LOCATION = DATABASE_OPERATION_ERROR + "Failed to find file by location - %s";
+    public static final String DATABASE_OPERATION_ERROR_FAILED_TO_FIND_FILE_BY_KEY = DATABASE_OPERATION_ERROR + "Failed to find file by key - %s";
 
     public static final String NOT_FOUND_EXCEPTION = "Not found exception";
     public static final String ACCESS_DENIED_EXCEPTION = "Access denied exception";
@@ -29,6 +31,7 @@ public final class Constants {
     public static final String FAILED_TO_SAVE_USER = "Failed to save user: ";
     public static final String FAILED_TO_UPDATE_USER = "Failed to update user by id - [%d]: ";
     public static final String FAILED_TO_FIND_ALL_USERS = "Failed to find all users: ";
+    public static final String FAILED_TO_FIND_USER_BY_EMAIL = "Failed to find the current user by email";
     public static final String FAILED_TO_DELETE_USER_BY_ID = "Failed to delete user by id - [%d]: ";
     public static final String FAILED_TO_DELETE_ALL_USERS = "Failed to delete all users: ";
     public static final String FAILED_TO_SAVE_FILE = "Failed to save file: ";
@@ -48,7 +51,6 @@ public final class Constants {
     public static final String TEXT_SPRING = "spring";
     public static final String ACCESS_DENIED_USER_DELETED = "Access denied: user with id - [%d] is DELETED";
     public static final String ACCESS_DENIED = "Access denied";
-    public static final String S3_SECRET_KEY = "%s/%s";
     public static final String NOT_IMPLEMENT_EXCEPTION = "The method -> %s does not implement";
     public static final String TEXT_UPDATE = "update()";
     public static final String FAILED_TO_RAED_ALL_BYTES_WHEN_GET_OBJECT_TO_S3_SERVICE = "Failed to read the object all bytes to the method 'getObject'";
@@ -73,6 +75,17 @@ public final class Constants {
     public static final String S3_BUCKET = "s3_bucket";
     public static final String LOCATION = "location";
     public static final String FILES = "files";
+    public static final String BLOBS = "blobs";
+    public static final String BLOB = "blob";
+    public static final String BLOB_ID = "blob_id";
+    public static final String PURGED_AT = "purged_at";
+    public static final String DELETED_AT = "deleted_at";
+    public static final String SHA256 = "sha256";
+    public static final String S3_KEY = "s3_key";
+    public static final String SIZE = "size";
+    public static final String REF_COUNT = "ref_count";
+    public static final String PRESIGNED_UPLOADS = "presigned_uploads";
+    public static final String EXPIRES_AT = "expires_at";
     public static final String PERMISSION_READ_SELF = "read:self";
     public static final String PERMISSION_DOWNLOAD_FILE = "download:file";
     public static final String PERMISSION_READ_WRITE_DELETE_EVENTS = "read_write_delete:events";
@@ -81,7 +94,7 @@ public final class Constants {
     public static final String PERMISSION_MANAGE_USERS = "manage:users";
     public static final String PERMISSION_MANAGE_ROLES = "manage:roles";
     public static final String TOKENS = "tokens";
-    public static final String TOKEN = "token";
+    public static final String TOKEN_HASH = "token_hash";
     public static final String TOKEN_TYPE = "token_type";
     public static final String EXPIRED = "expired";
     public static final String REVOKED = "revoked";
@@ -92,9 +105,85 @@ public final class Constants {
     public static final String PASSWORD = "password";
     public static final String ROLE = "role";
     public static final String USER = "user";
-    public static final String QUERY_FIND_ALL_TOKENS_BY_USER_ID_AND_EXPIRED_REVOKED_FALSE = "SELECT t FROM Token t INNER JOIN User u ON t.user.id = u.id " +
-            "WHERE u.id = :userId AND (t.expired = false or t.revoked = false)";
+    public static final String QUERY_FIND_ALL_TOKENS_BY_USER_ID_AND_EXPIRED_REVOKED_FALSE = "SELECT t FROM Token t " +
+            "WHERE t.user.id = :userId AND (t.expired = false or t.revoked = false)";
+    public static final String QUERY_REVOKE_ALL_TOKENS_BY_USER_ID = "UPDATE Token t " +
+            "SET t.expired = true, t.revoked = true, t.status = spring.boot.rest.api.model.Status.DELETED, t.updatedAt = :updatedAt " +
+            "WHERE t.user.id = :userId AND (t.expired = false or t.revoked = false)";
+    public static final String QUERY_FIND_TOKEN_IDS_CREATED_BEFORE_AFTER_ID = "SELECT t.id FROM Token t " +
+            "WHERE t.id > :afterId AND t.createdAt < :createdBefore ORDER BY t.id";
+    public static final String QUERY_DELETE_TOKENS_BY_IDS = "DELETE FROM Token t WHERE t.id IN :ids";
+    public static final String QUERY_FIND_ACTIVE_USER_IDS_AFTER_ID = "SELECT u.id FROM User u " +
+            "WHERE u.status = spring.boot.rest.api.model.Status.ACTIVE AND u.id > :afterId ORDER BY u.id";
+    public static final String QUERY_MARK_USERS_DELETED_BY_IDS = "UPDATE User u " +
+            "SET u.status = spring.boot.rest.api.model.Status.DELETED, u.updatedAt = :updatedAt " +
+            "WHERE u.id IN :ids AND u.status = spring.boot.rest.api.model.Status.ACTIVE";
+    public static final String QUERY_FIND_ACTIVE_EVENT_IDS_AFTER_ID = "SELECT e.id FROM Event e " +
+            "WHERE e.status = spring.boot.rest.api.model.Status.ACTIVE AND e.id > :afterId ORDER BY e.id";
+    public static final String QUERY_MARK_EVENTS_DELETED_BY_IDS = "UPDATE Event e " +
+            "SET e.status = spring.boot.rest.api.model.Status.DELETED, e.updatedAt = :updatedAt " +
+            "WHERE e.id IN :ids AND e.status = spring.boot.rest.api.model.Status.ACTIVE";
+    public static final String QUERY_FIND_ACTIVE_FILE_IDS_AFTER_ID = "SELECT f.id FROM File f " +
+            "WHERE f.status = spring.boot.rest.api.model.Status.ACTIVE AND f.id > :afterId ORDER BY f.id";
+    public static final String QUERY_MARK_FILES_DELETED_BY_IDS = "UPDATE File f " +
+            "SET f.status = spring.boot.rest.api.model.Status.DELETED, f.updatedAt = :updatedAt, f.deletedAt = :updatedAt " +
+            "WHERE f.id IN :ids AND f.status = spring.boot.rest.api.model.Status.ACTIVE";
+    public static final String SELECT_USER_VIEW = "SELECT new spring.boot.rest.api.repository.projection.UserView(" +
+            "u.id, u.firstName, u.lastName, u.email, u.role, u.createdAt, u.updatedAt, u.status) FROM User u ";
+    public static final String SELECT_EVENT_VIEW = "SELECT new spring.boot.rest.api.repository.projection.EventView(" +
+            "e.id, e.name, e.user.id, e.file.id, e.createdAt, e.status) FROM Event e ";
+    public static final String SELECT_FILE_VIEW = "SELECT new spring.boot.rest.api.repository.projection.FileView(" +
+            "f.id, f.name, f.location, f.createdAt, f.updatedAt, f.status) FROM File f ";
+    public static final String QUERY_FIND_EVENT_VIEW_BY_ID = SELECT_EVENT_VIEW + "WHERE e.id = :id";
+    public static final String QUERY_FIND_FILE_VIEW_BY_ID = SELECT_FILE_VIEW + "WHERE f.id = :id";
+    public static final String QUERY_FIND_LEGACY_OBJECTS_BY_IDS = "SELECT new spring.boot.rest.api.repository.projection.StoredObjectView(" +
+            "f.s3Bucket, f.s3Secret) FROM File f WHERE f.id IN :ids AND f.blob IS NULL";
+    public static final String QUERY_FIND_USERS_PAGE_BY_FIRST_NAME = SELECT_USER_VIEW +
+            "WHERE u.firstName > :afterValue OR (u.firstName = :afterValue AND u.id > :afterId) ORDER BY u.firstName, u.id";
+    public static final String QUERY_FIND_USERS_PAGE_BY_CREATED_AT = SELECT_USER_VIEW +
+            "WHERE u.createdAt > :afterValue OR (u.createdAt = :afterValue AND u.id > :afterId) ORDER BY u.createdAt, u.id";
+    public static final String QUERY_FIND_EVENTS_PAGE_BY_NAME = SELECT_EVENT_VIEW +
+            "WHERE e.name > :afterValue OR (e.name = :afterValue AND e.id > :afterId) ORDER BY e.name, e.id";
+    public static final String QUERY_FIND_EVENTS_PAGE_BY_CREATED_AT = SELECT_EVENT_VIEW +
+            "WHERE e.createdAt > :afterValue OR (e.createdAt = :afterValue AND e.id > :afterId) ORDER BY e.createdAt, e.id";
+    public static final String QUERY_FIND_FILES_PAGE_BY_CREATED_AT = SELECT_FILE_VIEW +
+            "WHERE f.createdAt > :afterValue OR (f.createdAt = :afterValue AND f.id > :afterId) ORDER BY f.createdAt, f.id";
+    public static final String QUERY_FIND_FILES_PAGE_BY_NAME = SELECT_FILE_VIEW +
+            "WHERE f.name > :afterValue OR (f.name = :afterValue AND f.id > :afterId) ORDER BY f.name, f.id";
+    public static final String QUERY_UPDATE_PASSWORD_BY_EMAIL = "UPDATE User u SET u.password = :password, u.updatedAt = :updatedAt " +
+            "WHERE u.email = :email";
+    public static final String QUERY_EXISTS_ACTIVE_FILE_BY_USER_EMAIL_AND_LOCATION = "SELECT COUNT(e) > 0 FROM Event e " +
+            "WHERE e.user.email = :email AND e.user.status = spring.boot.rest.api.model.Status.ACTIVE " +
+            "AND e.file.location = :location AND e.file.status = spring.boot.rest.api.model.Status.ACTIVE";
+    public static final String QUERY_ACQUIRE_BLOB_BY_SHA256 = "UPDATE Blob b SET b.refCount = b.refCount + 1, b.updatedAt = :updatedAt " +
+            "WHERE b.sha256 = :sha256";
+    public static final String QUERY_INSERT_OR_ACQUIRE_BLOB = "INSERT INTO blobs " +
+            "(sha256, s3_bucket, s3_key, location, size, ref_count, created_at, updated_at, status) " +
+            "VALUES (:sha256, :bucket, :key, :location, :size, 1, :now, :now, 'ACTIVE') " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = :now";
+    public static final String QUERY_RELEASE_BLOB_BY_ID = "UPDATE Blob b SET b.refCount = b.refCount - 1, b.updatedAt = :updatedAt " +
+            "WHERE b.id = :id";
+    public static final String QUERY_RELEASE_BLOBS_BY_FILE_IDS = "UPDATE Blob b " +
+            "SET b.refCount = b.refCount - CAST((SELECT COUNT(f) FROM File f WHERE f.blob.id = b.id AND f.id IN :fileIds " +
+            "AND f.status = spring.boot.rest.api.model.Status.ACTIVE) AS Integer), b.updatedAt = :updatedAt " +
+            "WHERE b.id IN (SELECT f.blob.id FROM File f WHERE f.id IN :fileIds " +
+            "AND f.status = spring.boot.rest.api.model.Status.ACTIVE)";
+    public static final String QUERY_FIND_UNREFERENCED_BLOBS_RELEASED_BEFORE_AFTER_ID = "SELECT b FROM Blob b " +
+            "WHERE b.refCount <= 0 AND b.updatedAt < :releasedBefore AND b.id > :afterId ORDER BY b.id";
+    public static final String QUERY_DELETE_BLOBS_BY_IDS = "DELETE FROM Blob b WHERE b.id IN :ids";
+    public static final String QUERY_CLAIM_PRESIGNED_UPLOAD_BY_KEY_AND_USER_ID = "DELETE FROM PresignedUpload p " +
+            "WHERE p.s3Key = :key AND p.user.id = :userId";
+    public static final String QUERY_FIND_PRESIGNED_UPLOADS_EXPIRED_BEFORE_AFTER_ID = "SELECT p FROM PresignedUpload p " +
+            "WHERE p.expiresAt < :expiredBefore AND p.id > :afterId ORDER BY p.id";
+    public static final String QUERY_DELETE_PRESIGNED_UPLOADS_BY_IDS = "DELETE FROM PresignedUpload p WHERE p.id IN :ids";
+    public static final String QUERY_FIND_PURGEABLE_FILES_DELETED_BEFORE_AFTER_ID = "SELECT f FROM File f " +
+            "WHERE f.status = spring.boot.rest.api.model.Status.DELETED AND f.blob IS NULL AND f.purgedAt IS NULL " +
+            "AND f.deletedAt < :deletedBefore AND f.id > :afterId ORDER BY f.id";
+    public static final String QUERY_MARK_FILES_PURGED_BY_IDS = "UPDATE File f SET f.purgedAt = :purgedAt WHERE f.id IN :ids";
+    public static final String QUERY_MARK_FILES_PURGED_BY_BLOB_IDS = "UPDATE File f SET f.purgedAt = :purgedAt " +
+            "WHERE f.blob.id IN :blobIds";
     public static final String URL_UPLOAD = "/upload";
+    public static final String URL_UPLOAD_ASYNC = "/upload-async";
     public static final String URL_API_V1_AUTH = "/api/v1/auth";
     public static final String URL_AUTHENTICATE = "/authenticate";
     public static final String URL_REGISTER = "/register";
@@ -104,14 +193,145 @@ public final class Constants {
     public static final String URL_ID = "/{id}";
     public static final String URL_ID_UPDATE_CONTENT = URL_ID + "/update-content";
     public static final String URL_DOWNLOAD = "/download";
+    public static final String URL_DOWNLOAD_ASYNC = "/download-async";
+    public static final String URL_PRESIGNED_UPLOAD = "/presigned-upload";
+    public static final String URL_PRESIGNED_UPLOAD_COMPLETE = URL_PRESIGNED_UPLOAD + "/complete";
+    public static final String URL_PRESIGNED_DOWNLOAD = "/presigned-download";
+    public static final String URL_DOWNLOAD_ARCHIVE = "/download-archive";
     public static final String URL_ID_FILES = URL_ID + "/files";
     public static final String ID = "id";
     public static final String FILE = "file";
     public static final Integer ONE = 1;
     public static final Integer SEVEN = 7;
-    public static final String ATTACHMENT_FILENAME = "attachment;filename=";
     public static final String MUST_REVALIDATE_POST_CHECK_0 = "must-revalidate, post-check=0, pre-check=0";
     public static final String USER_IS_DELETED = "User is deleted";
     public static final String FILE_NOT_EXISTS = "File not exists!";
+    public static final String USER_NOT_EXISTS = "User not exists";
     public static final String FIELD_NAME_FIRST_NAME = "firstName";
+    public static final String UNEXPECTED_END_OF_UPLOAD_STREAM = "Unexpected end of the upload stream of '%s' at part - [%d]";
+    public static final String UPLOAD_NEEDS_TOO_MANY_PARTS = "The upload of '%s' needs more than %d parts of %d bytes";
+    public static final String FAILED_TO_UPLOAD_PART = "Failed to upload the parts of '%s' to AWS S3";
+    public static final int MAX_BACKOFF_SHIFT = 20;
+    public static final String APPLICATION_OCTET_STREAM = "application/octet-stream";
+    public static final String S3_UPLOAD_THREAD_PREFIX = "s3-upload-";
+    public static final String UPLOAD_METRIC = "s3.upload";
+    public static final String UPLOAD_PART_METRIC = "s3.upload.part";
+    public static final String DURATION_SUFFIX = ".duration";
+    public static final String THROUGHPUT_SUFFIX = ".throughput";
+    public static final String BYTES_PER_SECOND = "bytes/s";
+    public static final String RANGE_NOT_SATISFIABLE = "The range '%s' can't be satisfied";
+    public static final String RANGE_NOT_SATISFIABLE_EXCEPTION = "Range not satisfiable exception";
+    public static final String NOT_IMPLEMENTED_EXCEPTION = "Not implemented exception";
+    public static final String INVALID_PAGE_REQUEST_EXCEPTION = "Invalid page request exception";
+    public static final String WEAK_ETAG_PREFIX = "W/";
+    public static final String ETAG_QUOTE = "\"";
+    public static final String ASTERISK = "*";
+    public static final String BYTES = "bytes";
+    public static final String SHA_256 = "SHA-256";
+    public static final String S3_CACHE_METRIC = "s3.cache";
+    public static final String HITS_SUFFIX = ".hits";
+    public static final String MISSES_SUFFIX = ".misses";
+    public static final String EVICTIONS_SUFFIX = ".evictions";
+    public static final String SIZE_SUFFIX = ".size";
+    public static final String CACHE_TEMP_PREFIX = "fill-";
+    public static final String CACHE_TEMP_SUFFIX = ".tmp";
+    public static final int CACHE_BUFFER_SIZE = 64 * 1024;
+    public static final String CACHE_FILE_NAME_PATTERN = "[0-9a-f]{64}|" + CACHE_TEMP_PREFIX + "\\d+\\" + CACHE_TEMP_SUFFIX;
+    public static final String CONTENT_RANGE_FORMAT = "bytes %d-%d/%d";
+    public static final String FAILED_TO_READ_CACHED_OBJECT = "Failed to read the cached object";
+    public static final String TOKEN_PURGE_METRIC = "tokens.purge";
+    public static final String ROWS_SUFFIX = ".rows";
+    public static final String BATCH_DURATION_SUFFIX = ".batch.duration";
+    public static final String STORAGE_GC_METRIC = "storage.gc";
+    public static final String OBJECTS_SUFFIX = ".objects";
+    public static final String FAILURES_SUFFIX = ".failures";
+    public static final String OBJECTS_PER_SECOND = "objects/s";
+    public static final int MAX_DELETE_OBJECTS_BATCH = 1000;
+    public static final String PASSWORD_HASH_THREAD_PREFIX = "password-hash-";
+    public static final String PASSWORD_HASH_METRIC = "password.hash";
+    public static final String QUEUE_DEPTH_SUFFIX = ".queue.depth";
+    public static final String OPERATION = "operation";
+    public static final String ENCODE = "encode";
+    public static final String MATCHES = "matches";
+    public static final String PASSWORD_HASHING_IS_BUSY = "Too many password operations in progress, try again later";
+    public static final String PASSWORD_HASHING_UNAVAILABLE_EXCEPTION = "Password hashing unavailable exception";
+    public static final String NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+    public static final String VIRTUAL_THREADS_REQUIRE_JAVA_21 = "virtual-threads.enabled requires Java 21 or newer";
+    public static final String CLOSE = "close";
+    public static final String INTERRUPTED_WAITING_FOR_CONNECTION = "Interrupted while waiting for a database connection";
+    public static final String CONNECTION_NOT_AVAILABLE = "Database connection is not available, request timed out after %dms";
+    public static final String UPLOAD_TEMP_PREFIX = "upload-";
+    public static final String UPLOAD_TEMP_SUFFIX = ".tmp";
+    public static final String STORAGE_TYPE = "storage.type";
+    public static final String STORAGE_TYPE_S3 = "s3";
+    public static final String STORAGE_TYPE_LOCAL = "local";
+    public static final String S3_ASYNC_ENABLED = "${aws.s3.async.enabled:false} and '${storage.type:s3}' == 's3'";
+    public static final String LOCAL_STORAGE_STAGING_DIRECTORY = ".staging";
+    public static final String LOCAL_ETAG_FORMAT = "\"%x-%x\"";
+    public static final String FAILED_TO_WRITE_LOCAL_OBJECT = "Failed to write the object to the local storage";
+    public static final String FAILED_TO_READ_LOCAL_OBJECT = "Failed to read the object from the local storage";
+    public static final String FIELD_NAME_SHARD_DEPTH = "shardDepth";
+    public static final String FIELD_NAME_SHARD_WIDTH = "shardWidth";
+    public static final String FIELD_NAME_MAP_CHUNK_SIZE = "mapChunkSize";
+    public static final String INVALID_LOCAL_STORAGE_PROPERTY = "invalidLocalStorageProperty";
+    public static final String INVALID_SHARD_DEPTH = "The shard depth must not be negative";
+    public static final String INVALID_SHARD_WIDTH = "The shard width must be at least 1";
+    public static final String SHARD_PREFIX_TOO_LONG = "The shard depth times the shard width must not exceed %d hash characters";
+    public static final String INVALID_MAP_CHUNK_SIZE = "The map chunk size must be between 1 and %d bytes";
+    public static final int SHA256_HEX_LENGTH = 64;
+    public static final long S3_MIN_PART_SIZE = 5L * 1024 * 1024;
+    public static final long S3_MAX_PARTS = 10_000;
+    public static final String FIELD_NAME_PART_SIZE = "partSize";
+    public static final String FIELD_NAME_MULTIPART_THRESHOLD = "multipartThreshold";
+    public static final String FIELD_NAME_PART_CONCURRENCY = "partConcurrency";
+    public static final String FIELD_NAME_MAX_PART_ATTEMPTS = "maxPartAttempts";
+    public static final String INVALID_S3_UPLOAD_PROPERTY = "invalidS3UploadProperty";
+    public static final String INVALID_PART_SIZE = "The part size must be between %d and %d bytes";
+    public static final String MULTIPART_THRESHOLD_TOO_LARGE = "The multipart threshold must not need more than %d parts";
+    public static final String INVALID_PART_CONCURRENCY = "The part concurrency must be at least 1";
+    public static final String INVALID_MAX_PART_ATTEMPTS = "The max part attempts must be at least 1";
+    public static final String HOST = "host";
+    public static final String TEXT_PRESIGN_PUT_OBJECT = "presignPutObject()";
+    public static final String TEXT_PRESIGN_GET_OBJECT = "presignGetObject()";
+    public static final String INVALID_UPLOAD_SIZE = "The upload size '%d' must be between 1 and %d bytes";
+    public static final String INVALID_UPLOAD_KEY = "The upload key '%s' was not issued by this service";
+    public static final String UPLOAD_ALREADY_COMPLETED = "The upload '%s' is already completed";
+    public static final String UPLOADED_OBJECT_NOT_FOUND = "Nothing was uploaded under the key '%s'";
+    public static final String FAILED_TO_RESERVE_UPLOAD = "Failed to reserve the upload key '%s'";
+    public static final String CONFLICT_EXCEPTION = "Conflict exception";
+    public static final String ARCHIVE_FETCH_THREAD_PREFIX = "archive-fetch-";
+    public static final String ARCHIVE_FILE_NAME = "files.zip";
+    public static final String APPLICATION_ZIP = "application/zip";
+    public static final String FAILED_TO_ARCHIVE_FILE = "Failed to fetch '%s' for the archive";
+    public static final String NOTHING_TO_ARCHIVE = "Nothing to archive: pass file ids, locations or a user id";
+    public static final String TOO_MANY_FILES_TO_ARCHIVE = "An archive can hold at most %d files";
+    public static final String DUPLICATE_ARCHIVE_NAME = "%s (%d)";
+    public static final String DUPLICATE_ARCHIVE_NAME_WITH_EXTENSION = "%s (%d)%s";
+    public static final String UNNAMED_ARCHIVE_ENTRY = "unnamed";
+    public static final String UNDERSCORE = "_";
+    public static final String BACKSLASH = "\\";
+    public static final String DOT = ".";
+    public static final String BLOB_KEY = "blobs/%s";
+    public static final String FAILED_TO_ACQUIRE_BLOB = "Failed to acquire the blob";
+    public static final String FAILED_TO_REGISTER_BLOB = "Failed to register the blob";
+    public static final String FAILED_TO_RELEASE_BLOB = "Failed to release the blob by id - [%d]";
+    public static final String FAILED_TO_RELEASE_BLOBS = "Failed to release the blobs of '%d' files";
+    public static final String PARAM_CURSOR = "cursor";
+    public static final String PARAM_LIMIT = "limit";
+    public static final String PARAM_SORT = "sort";
+    public static final String SORT_CREATED_AT = "createdAt";
+    public static final String DEFAULT_PAGE_LIMIT = "50";
+    public static final int MAX_PAGE_LIMIT = 500;
+    public static final String NEW_LINE = "\n";
+    public static final String CURSOR_SEPARATOR = NEW_LINE;
+    public static final String INVALID_CURSOR = "The cursor is malformed or was issued for another sort order";
+    public static final String UNSUPPORTED_SORT_KEY = "Unsupported sort key '%s'";
+    public static final String FAILED_TO_FIND_PAGE = "Failed to find the page sorted by '%s'";
+    public static final String URL_EXPORT = "/export";
+    public static final String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+    public static final String QUERY_STREAM_ALL_USERS = SELECT_USER_VIEW + "ORDER BY u.id";
+    public static final String QUERY_STREAM_ALL_EVENTS = SELECT_EVENT_VIEW + "ORDER BY e.id";
+    public static final String QUERY_STREAM_ALL_FILES = SELECT_FILE_VIEW + "ORDER BY f.id";
+    public static final String UNEXPECTED_END_OF_LOCAL_UPLOAD_STREAM = "Unexpected end of the upload stream of '%s' after '%d' of '%d' bytes";
+    public static final String LOCAL_UPLOAD_STREAM_LONGER_THAN_DECLARED = "The upload stream of '%s' is longer than the declared '%d' bytes";
 }
@@ -0,0 +1,45 @@
+package spring.boot.rest.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import static spring.boot.rest.api.util.Constants.CACHE_BUFFER_SIZE;
+import static spring.boot.rest.api.util.Constants.SHA_256;
+import static spring.boot.rest.api.util.Constants.TEXT_UTILITY_CLASS;
+
+public final class HashUtil {
+
+    private HashUtil() {
+        throw new IllegalStateException(TEXT_UTILITY_CLASS);
+    }
+
+    public static byte[] sha256(String value) {
+        return newSha256().digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256(value));
+    }
+
+    public static byte[] sha256(InputStream content) throws IOException {
+        final var digest = newSha256();
+        final var buffer = new byte[CACHE_BUFFER_SIZE];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return digest.digest();
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1 @@
+CREATE INDEX idx_files_location_status ON files (location, status);
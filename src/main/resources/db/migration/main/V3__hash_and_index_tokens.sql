@@ -0,0 +1,12 @@
+ALTER TABLE tokens ADD COLUMN token_hash BINARY(32) NULL AFTER id;
+
+UPDATE tokens SET token_hash = UNHEX(SHA2(token, 256));
+
+DELETE older FROM tokens older
+    INNER JOIN tokens newer ON older.token_hash = newer.token_hash AND older.id < newer.id;
+
+ALTER TABLE tokens MODIFY token_hash BINARY(32) NOT NULL;
+ALTER TABLE tokens DROP COLUMN token;
+
+CREATE UNIQUE INDEX uk_tokens_token_hash ON tokens (token_hash);
+CREATE INDEX idx_tokens_user_expired_revoked ON tokens (user_id, expired, revoked);
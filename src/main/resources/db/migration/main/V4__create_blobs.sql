@@ -0,0 +1,18 @@
+CREATE TABLE blobs (
+                       id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                       sha256 BINARY(32) NOT NULL,
+                       s3_bucket VARCHAR(255) NOT NULL,
+                       s3_key VARCHAR(500) NOT NULL,
+                       location VARCHAR(500) NOT NULL,
+                       size BIGINT NOT NULL,
+                       ref_count INT NOT NULL,
+                       created_at TIMESTAMP NOT NULL,
+                       updated_at TIMESTAMP NOT NULL,
+                       status VARCHAR(20) NOT NULL
+);
+
+CREATE UNIQUE INDEX uk_blobs_sha256 ON blobs (sha256);
+
+ALTER TABLE files ADD COLUMN blob_id BIGINT NULL;
+ALTER TABLE files ADD CONSTRAINT fk_files_blob_id FOREIGN KEY (blob_id) REFERENCES blobs (id) ON DELETE SET NULL;
+ALTER TABLE files MODIFY s3_secret VARCHAR(500) NULL;
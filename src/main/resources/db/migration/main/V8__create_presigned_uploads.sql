@@ -0,0 +1,14 @@
+CREATE TABLE presigned_uploads (
+                       id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                       s3_bucket VARCHAR(255) NOT NULL,
+                       s3_key VARCHAR(500) NOT NULL,
+                       user_id BIGINT NOT NULL,
+                       expires_at TIMESTAMP NOT NULL,
+                       created_at TIMESTAMP NOT NULL,
+                       updated_at TIMESTAMP NOT NULL,
+                       status VARCHAR(20) NOT NULL,
+                       FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX uk_presigned_uploads_s3_key ON presigned_uploads (s3_key);
+CREATE INDEX idx_presigned_uploads_expires_at_id ON presigned_uploads (expires_at, id);
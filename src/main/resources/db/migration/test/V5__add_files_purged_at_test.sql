@@ -0,0 +1,7 @@
+ALTER TABLE files ADD COLUMN purged_at TIMESTAMP NULL;
+ALTER TABLE files ADD COLUMN deleted_at TIMESTAMP NULL;
+
+UPDATE files SET deleted_at = CURRENT_TIMESTAMP WHERE status = 'DELETED';
+
+CREATE INDEX idx_files_status_purged_at_id ON files (status, purged_at, id);
+CREATE INDEX idx_blobs_ref_count_updated_at ON blobs (ref_count, updated_at);
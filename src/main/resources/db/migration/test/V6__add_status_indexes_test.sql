@@ -0,0 +1,2 @@
+CREATE INDEX idx_users_status ON users (status);
+CREATE INDEX idx_events_status ON events (status);
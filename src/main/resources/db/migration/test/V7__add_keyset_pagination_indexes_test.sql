@@ -0,0 +1,6 @@
+CREATE INDEX idx_users_first_name_id ON users (first_name, id);
+CREATE INDEX idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX idx_events_name_id ON events (name, id);
+CREATE INDEX idx_events_created_at_id ON events (created_at, id);
+CREATE INDEX idx_files_created_at_id ON files (created_at, id);
+CREATE INDEX idx_files_name_id ON files (name, id);
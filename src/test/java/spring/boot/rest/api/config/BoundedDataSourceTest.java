@@ -0,0 +1,56 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoundedDataSourceTest {
+
+    private DataSource target;
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new BoundedDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void whenAllPermitsAreTakenShouldTimeOut() throws SQLException {
+        try (final var ignored = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    void whenConnectionIsClosedTwiceShouldReleaseOnePermit() throws SQLException {
+        final var connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+        try (final var ignored = dataSource.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+    }
+
+    @Test
+    void whenTargetFailsShouldReleaseThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException()).thenAnswer(invocation -> mock(Connection.class));
+        assertThrows(SQLException.class, dataSource::getConnection);
+        try (final var ignored = dataSource.getConnection()) {
+            verify(target, times(2)).getConnection();
+        }
+    }
+}
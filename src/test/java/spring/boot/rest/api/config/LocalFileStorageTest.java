@@ -0,0 +1,63 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spring.boot.rest.api.exception.FileException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static spring.boot.rest.api.util.Constants.LOCAL_STORAGE_STAGING_DIRECTORY;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+class LocalFileStorageTest {
+
+    @TempDir
+    private Path directory;
+    private LocalFileStorage storage;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        final var properties = new LocalStorageProperties();
+        properties.setDirectory(directory.toString());
+        storage = new LocalFileStorage(properties);
+        storage.init();
+    }
+
+    @Test
+    void whenStreamMatchesTheDeclaredLengthShouldStoreTheObject() {
+        byte[] content = TEST_TEXT_MULTIPART_CONTENT.getBytes();
+
+        storage.putObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY, new ByteArrayInputStream(content), content.length);
+
+        assertThat(storage.getObjectSize(TEST_TEXT_BUCKET, TEST_TEXT_KEY)).contains((long) content.length);
+    }
+
+    @Test
+    void whenStreamIsLongerThanDeclaredShouldNotStoreTheObject() throws IOException {
+        byte[] content = TEST_TEXT_MULTIPART_CONTENT.getBytes();
+
+        assertThrows(FileException.class, () -> storage.putObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY,
+                new ByteArrayInputStream(content), content.length - 1));
+
+        assertThat(storage.getObjectSize(TEST_TEXT_BUCKET, TEST_TEXT_KEY)).isEmpty();
+        try (var staged = Files.list(directory.resolve(LOCAL_STORAGE_STAGING_DIRECTORY))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    void whenStreamIsShorterThanDeclaredShouldNotStoreTheObject() {
+        byte[] content = TEST_TEXT_MULTIPART_CONTENT.getBytes();
+
+        assertThrows(FileException.class, () -> storage.putObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY,
+                new ByteArrayInputStream(content), content.length + 1));
+
+        assertThat(storage.getObjectSize(TEST_TEXT_BUCKET, TEST_TEXT_KEY)).isEmpty();
+    }
+}
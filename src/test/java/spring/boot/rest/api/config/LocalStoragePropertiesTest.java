@@ -0,0 +1,47 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalStoragePropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(LocalStoragePropertiesConfig.class);
+
+    @Test
+    void whenShardSettingsAreSensibleShouldBind() {
+        contextRunner.withPropertyValues("storage.local.shard-depth=3", "storage.local.shard-width=1")
+                .run(context -> assertThat(context.getBean(LocalStorageProperties.class).getShardDepth()).isEqualTo(3));
+    }
+
+    @Test
+    void whenShardDepthIsNegativeShouldFailToStart() {
+        contextRunner.withPropertyValues("storage.local.shard-depth=-1")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenShardWidthIsZeroShouldFailToStart() {
+        contextRunner.withPropertyValues("storage.local.shard-width=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenShardPrefixIsLongerThanTheHashShouldFailToStart() {
+        contextRunner.withPropertyValues("storage.local.shard-depth=20", "storage.local.shard-width=4")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenMapChunkSizeIsZeroShouldFailToStart() {
+        contextRunner.withPropertyValues("storage.local.map-chunk-size=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @EnableConfigurationProperties(LocalStorageProperties.class)
+    static class LocalStoragePropertiesConfig {
+    }
+}
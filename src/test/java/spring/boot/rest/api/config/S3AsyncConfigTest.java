@@ -0,0 +1,30 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+class S3AsyncConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(S3AsyncConfig.class, S3AsyncService.class);
+
+    @Test
+    void whenStorageIsLocalShouldNotCreateTheAsyncS3Backend() {
+        contextRunner.withPropertyValues(TEST_TEXT_S3_ASYNC_ENABLED, TEST_TEXT_STORAGE_TYPE_LOCAL)
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .doesNotHaveBean(S3AsyncConfig.class)
+                        .doesNotHaveBean(S3AsyncService.class));
+    }
+
+    @Test
+    void whenAsyncIsDisabledShouldNotCreateTheAsyncS3Backend() {
+        contextRunner.withPropertyValues(TEST_TEXT_STORAGE_TYPE_S3)
+                .run(context -> assertThat(context)
+                        .hasNotFailed()
+                        .doesNotHaveBean(S3AsyncService.class));
+    }
+}
@@ -0,0 +1,111 @@
+package spring.boot.rest.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import spring.boot.rest.api.exception.FileException;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static spring.boot.rest.api.util.Constants.S3_MAX_PARTS;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+class S3MultipartUploaderTest {
+
+    private S3Client s3;
+    private S3UploadProperties uploadProperties;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    public void setUp() {
+        s3 = mock(S3Client.class);
+        uploadProperties = new S3UploadProperties();
+        uploadProperties.setPartSize(TEST_PART_SIZE);
+        uploadProperties.setPartConcurrency(1);
+        uploadProperties.setRetryBaseDelay(Duration.ofMillis(10));
+        uploadProperties.setRetryMaxDelay(Duration.ofMillis(40));
+        uploader = new S3MultipartUploader(s3, new S3Properties(), uploadProperties, new SimpleMeterRegistry());
+        when(s3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId(TEST_TEXT_UPLOAD_ID).build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    void whenPartFailsTransientlyShouldRetryAndCompleteTheUpload() {
+        when(s3.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkException.builder().message(TEST_TEXT_TRANSIENT_FAILURE).build())
+                .thenReturn(UploadPartResponse.builder().eTag(TEST_TEXT_ETAG).build());
+        byte[] content = TEST_TEXT_MULTIPART_CONTENT.getBytes();
+
+        uploader.upload(TEST_TEXT_BUCKET, TEST_TEXT_KEY, new ByteArrayInputStream(content), content.length);
+
+        long parts = (content.length + TEST_PART_SIZE - 1) / TEST_PART_SIZE;
+        verify(s3, times((int) parts + 1)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        ArgumentCaptor<CompleteMultipartUploadRequest> completed = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3).completeMultipartUpload(completed.capture());
+        assertThat(completed.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber)
+                .containsExactly(1, 2, 3);
+        verify(s3, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @Test
+    void whenPartKeepsFailingShouldAbortTheUpload() {
+        when(s3.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(SdkException.builder().message(TEST_TEXT_TRANSIENT_FAILURE).build());
+        byte[] content = TEST_TEXT_MULTIPART_CONTENT.getBytes();
+
+        assertThrows(FileException.class, () -> uploader.upload(TEST_TEXT_BUCKET, TEST_TEXT_KEY,
+                new ByteArrayInputStream(content), content.length));
+
+        verify(s3, times(uploadProperties.getMaxPartAttempts()))
+                .uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void whenUploadNeedsMoreThanTheMaxPartsShouldFailBeforeStarting() {
+        long contentLength = TEST_PART_SIZE * S3_MAX_PARTS + 1;
+
+        assertThrows(FileException.class, () -> uploader.upload(TEST_TEXT_BUCKET, TEST_TEXT_KEY,
+                new ByteArrayInputStream(new byte[0]), contentLength));
+
+        verify(s3, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void whenBackingOffShouldStayWithinTheExponentialCeiling() {
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(uploader.backoffMillis(1)).isBetween(0L, 10L);
+            assertThat(uploader.backoffMillis(2)).isBetween(0L, 20L);
+            assertThat(uploader.backoffMillis(10)).isBetween(0L, 40L);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package spring.boot.rest.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+class S3ObjectCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void whenInitializedShouldDeleteOnlyItsOwnFiles() throws IOException {
+        Files.createFile(directory.resolve(TEST_TEXT_CACHED_FILE));
+        Files.createFile(directory.resolve(TEST_TEXT_CACHE_FILL_FILE));
+        Files.createFile(directory.resolve(TEST_TEXT_FOREIGN_FILE));
+        Files.createDirectories(directory.resolve(TEST_TEXT_FOREIGN_DIRECTORY).resolve(TEST_TEXT_CACHED_FILE));
+        final var properties = new S3CacheProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+
+        new S3ObjectCache(properties, new SimpleMeterRegistry()).init();
+
+        assertThat(directory.resolve(TEST_TEXT_CACHED_FILE)).doesNotExist();
+        assertThat(directory.resolve(TEST_TEXT_CACHE_FILL_FILE)).doesNotExist();
+        assertThat(directory.resolve(TEST_TEXT_FOREIGN_FILE)).exists();
+        assertThat(directory.resolve(TEST_TEXT_FOREIGN_DIRECTORY).resolve(TEST_TEXT_CACHED_FILE)).isDirectory();
+    }
+}
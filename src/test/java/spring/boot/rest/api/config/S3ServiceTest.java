@@ -0,0 +1,77 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import spring.boot.rest.api.exception.FileException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+class S3ServiceTest {
+
+    private S3Presigner presigner;
+    private S3PresignProperties presignProperties;
+    private S3Service s3Service;
+
+    @BeforeEach
+    public void setUp() {
+        presigner = S3Presigner.builder()
+                .region(Region.EU_CENTRAL_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(TEST_TEXT_ACCESS_KEY, TEST_TEXT_SECRET_KEY)))
+                .build();
+        presignProperties = new S3PresignProperties();
+        s3Service = new S3Service(null, null, null, presigner, presignProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    void whenPresignPutObjectShouldSignTheBucketKeyAndContentLength() {
+        Instant before = Instant.now();
+
+        PresignedUrl presignedUrl = s3Service.presignPutObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY, TEST_TEXT.length());
+
+        assertThat(presignedUrl.getMethod()).isEqualTo(TEST_TEXT_PUT);
+        assertThat(presignedUrl.getKey()).isEqualTo(TEST_TEXT_KEY);
+        assertThat(presignedUrl.getUrl()).contains(TEST_TEXT_BUCKET, TEST_TEXT_KEY, TEST_TEXT_X_AMZ_SIGNATURE,
+                TEST_TEXT_X_AMZ_EXPIRES);
+        assertThat(presignedUrl.getExpiresAt()).isBetween(
+                before.plus(presignProperties.getUploadExpiration()).minusSeconds(1),
+                Instant.now().plus(presignProperties.getUploadExpiration()));
+        assertThat(presignedUrl.getSignedHeaders()).containsKey(TEST_TEXT_CONTENT_LENGTH);
+    }
+
+    @Test
+    void whenPresignPutObjectWithInvalidSizeShouldThrowFileException() {
+
+        assertThrows(FileException.class, () -> s3Service.presignPutObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY, 0));
+        assertThrows(FileException.class, () -> s3Service.presignPutObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY,
+                presignProperties.getMaxUploadSize() + 1));
+    }
+
+    @Test
+    void whenPresignGetObjectShouldSignTheContentDisposition() {
+        Instant before = Instant.now();
+
+        PresignedUrl presignedUrl = s3Service.presignGetObject(TEST_TEXT_BUCKET, TEST_TEXT_KEY, TEST_TEXT_FILE_NAME);
+
+        assertThat(presignedUrl.getMethod()).isEqualTo(TEST_TEXT_GET);
+        assertThat(presignedUrl.getUrl()).contains(TEST_TEXT_BUCKET, TEST_TEXT_KEY, TEST_TEXT_RESPONSE_CONTENT_DISPOSITION,
+                TEST_TEXT_X_AMZ_EXPIRES);
+        assertThat(presignedUrl.getExpiresAt()).isBetween(
+                before.plus(presignProperties.getDownloadExpiration()).minusSeconds(1),
+                Instant.now().plus(presignProperties.getDownloadExpiration()));
+    }
+}
@@ -0,0 +1,53 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3UploadPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(S3UploadPropertiesConfig.class);
+
+    @Test
+    void whenPartSettingsAreSensibleShouldBind() {
+        contextRunner.withPropertyValues("aws.s3.upload.part-size=8388608", "aws.s3.upload.multipart-threshold=16777216")
+                .run(context -> assertThat(context.getBean(S3UploadProperties.class).getPartSize()).isEqualTo(8388608));
+    }
+
+    @Test
+    void whenPartSizeIsBelowTheS3MinimumShouldFailToStart() {
+        contextRunner.withPropertyValues("aws.s3.upload.part-size=1048576")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenPartSizeOverflowsAnIntShouldFailToStart() {
+        contextRunner.withPropertyValues("aws.s3.upload.part-size=2147483648")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenThresholdNeedsMoreThanTheMaxPartsShouldFailToStart() {
+        contextRunner.withPropertyValues("aws.s3.upload.part-size=5242880", "aws.s3.upload.multipart-threshold=52428800001")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenPartConcurrencyIsZeroShouldFailToStart() {
+        contextRunner.withPropertyValues("aws.s3.upload.part-concurrency=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void whenMaxPartAttemptsIsZeroShouldFailToStart() {
+        contextRunner.withPropertyValues("aws.s3.upload.max-part-attempts=0")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @EnableConfigurationProperties(S3UploadProperties.class)
+    static class S3UploadPropertiesConfig {
+    }
+}
@@ -0,0 +1,76 @@
+package spring.boot.rest.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+class ZipArchiveStreamerTest {
+
+    private ZipArchiveStreamer zipArchiveStreamer;
+
+    @BeforeEach
+    public void setUp() {
+        FileStorage fileStorage = mock(FileStorage.class);
+        byte[] content = TEST_TEXT.getBytes();
+        when(fileStorage.getObject(anyString(), anyString(), any(), any()))
+                .thenAnswer(invocation -> StorageObject.builder()
+                        .contentLength(content.length)
+                        .totalLength(content.length)
+                        .body(outputStream -> outputStream.write(content))
+                        .build());
+        zipArchiveStreamer = new ZipArchiveStreamer(fileStorage, new ArchiveProperties());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        zipArchiveStreamer.shutdown();
+    }
+
+    @Test
+    void whenNamesClashWithGeneratedOnesShouldEmitEveryEntryUnderAUniqueName() throws Exception {
+
+        List<String> names = archive(TEST_TEXT_FILE_NAME, TEST_TEXT_FILE_NAME, TEST_TEXT_DUPLICATE_FILE_NAME, TEST_TEXT_FILE_NAME);
+
+        assertThat(names).containsExactly("filename.txt", "filename (1).txt", "filename (1) (1).txt", "filename (2).txt");
+    }
+
+    @Test
+    void whenNamesAreNullOrBlankShouldEmitDefaultNames() throws Exception {
+
+        List<String> names = archive(null, TEST_TEXT_BLANK, null);
+
+        assertThat(names).containsExactly("unnamed", "unnamed (1)", "unnamed (2)");
+    }
+
+    private List<String> archive(String... fileNames) throws Exception {
+        List<ArchiveEntry> entries = Arrays.stream(fileNames)
+                .map(fileName -> new ArchiveEntry(fileName, TEST_TEXT_BUCKET, TEST_TEXT_KEY))
+                .toList();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        zipArchiveStreamer.stream(entries).writeTo(outputStream);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
@@ -29,6 +29,7 @@ import java.time.LocalDateTime;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -185,6 +186,32 @@ class AuthenticationRestControllerV1Test {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void whenLogoutShouldReturn403OnNextRequestWithSameToken() throws Exception {
+
+        mockMvc.perform(get(TEST_URL_API_V1_USERS)
+                .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post(TEST_TEXT_API_V1_AUTH_LOGOUT)
+                .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(TEST_URL_API_V1_USERS)
+                .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void whenAuthenticateAgainShouldReturn403WithPreviousToken() throws Exception {
+
+        authenticateRoleAdmin();
+
+        mockMvc.perform(get(TEST_URL_API_V1_USERS)
+                .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isForbidden());
+    }
+
     private RegisterRequestDto getRegisterRequestDto(){
         return RegisterRequestDto.builder()
                 .firstName(faker.name().firstName())
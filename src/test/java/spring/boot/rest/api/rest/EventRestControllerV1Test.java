@@ -3,6 +3,9 @@ package spring.boot.rest.api.rest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,18 +26,25 @@ import spring.boot.rest.api.dto.response.AuthenticationResponseDto;
 import spring.boot.rest.api.dto.response.EventResponseDto;
 import spring.boot.rest.api.dto.response.FileResponseDto;
 import spring.boot.rest.api.model.*;
+import spring.boot.rest.api.repository.EventRepo;
 import spring.boot.rest.api.repository.UserRepo;
 import spring.boot.rest.api.service.UserService;
 
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static spring.boot.rest.api.util.TestConstants.*;
@@ -54,6 +64,10 @@ class EventRestControllerV1Test {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EventRepo eventRepo;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     private User userWithRoleAdmin;
     private User userWithRoleUser;
     private final Faker faker = new Faker();
@@ -188,10 +202,53 @@ class EventRestControllerV1Test {
                 .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
                 .andExpect(content().contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()", greaterThan(0)))
+                .andExpect(jsonPath("$.items.size()", greaterThan(0)))
                 .andExpect(jsonPath("$", is(notNullValue())));
     }
 
+    @Test
+    void whenFindAllEventsShouldNotLoadUsersAndFilesPerRow() throws Exception {
+        createEvent();
+        createEvent();
+        countEntityLoadsOfFindAll(TEST_PAGE_LIMIT);
+
+        assertEquals(countEntityLoadsOfFindAll(TEST_PAGE_LIMIT), countEntityLoadsOfFindAll(TEST_MAX_PAGE_LIMIT));
+    }
+
+    @Test
+    void whenExportEventsShouldStreamOneJsonObjectPerLine() throws Exception {
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_EVENTS_EXPORT)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split(TEST_TEXT_NEW_LINE);
+
+        assertThat(lines.length, greaterThan(0));
+        for (String line : lines) {
+            assertNotNull(objectMapper.readValue(line, EventResponseDto.class).getId());
+        }
+        assertEquals(eventResponseDto.getId(),
+                objectMapper.readValue(lines[lines.length - 1], EventResponseDto.class).getId());
+    }
+
+    @Test
+    void whenExportEventsShouldStreamEveryEventAcrossSeveralFlushIntervals() throws Exception {
+        List<Long> savedIds = new ArrayList<>(List.of(eventResponseDto.getId()));
+        for (int i = 0; i < TEST_EXPORT_ROWS; i++) {
+            savedIds.add(createEvent().getId());
+        }
+
+        List<Long> exportedIds = exportIds();
+
+        assertTrue(exportedIds.containsAll(savedIds));
+        assertEquals(exportedIds.stream().sorted().toList(), exportedIds);
+    }
+
     @Test
     void whenFindAllEventsShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -238,6 +295,22 @@ class EventRestControllerV1Test {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void whenDeleteAllInSeveralChunksShouldDeleteEveryEvent() throws Exception {
+        List<Long> ids = new ArrayList<>(List.of(eventResponseDto.getId()));
+        for (int i = 0; i < TEST_BULK_DELETE_ROWS; i++) {
+            ids.add(createEvent().getId());
+        }
+
+        mockMvc.perform(delete(TEST_URL_API_V1_EVENTS)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        List<Event> deletedEvents = eventRepo.findAllById(ids);
+        assertEquals(ids.size(), deletedEvents.size());
+        assertTrue(deletedEvents.stream().allMatch(event -> Status.DELETED.equals(event.getStatus())));
+    }
+
     @Test
     void whenDeleteAllShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
         mockMvc.perform(delete(TEST_URL_API_V1_EVENTS)
@@ -257,6 +330,36 @@ class EventRestControllerV1Test {
         return new MockMultipartFile("file", "filename.txt", "text/plain", "some text".getBytes());
     }
 
+    private List<Long> exportIds() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_EVENTS_EXPORT)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split(TEST_TEXT_NEW_LINE);
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            ids.add(objectMapper.readValue(line, EventResponseDto.class).getId());
+        }
+        return ids;
+    }
+
+    private long countEntityLoadsOfFindAll(int limit) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(TEST_URL_API_V1_EVENTS)
+                        .param(TEST_PARAM_LIMIT, String.valueOf(limit))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        return statistics.getEntityLoadCount();
+    }
+
     private String getInvalidToken() {
         return INVALID_TOKEN;
     }
@@ -331,7 +434,7 @@ class EventRestControllerV1Test {
 
     private EventCreateRequestDto getEventCreateRequestDto(){
         return EventCreateRequestDto.builder()
-                .name(faker.company().name())
+                .name(UUID.randomUUID().toString())
                 .userId(userWithRoleUser.getId())
                 .fileId(fileResponseDto.getId())
                 .build();
@@ -362,7 +465,7 @@ class EventRestControllerV1Test {
     private EventUpdateRequestDto getEventUpdateRequestDto(){
         return EventUpdateRequestDto.builder()
                 .id(eventResponseDto.getId())
-                .name(faker.company().name())
+                .name(UUID.randomUUID().toString())
                 .userId(userWithRoleAdmin.getId())
                 .fileId(fileResponseDto.getId())
                 .build();
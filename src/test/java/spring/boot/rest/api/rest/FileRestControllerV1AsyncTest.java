@@ -0,0 +1,226 @@
+package spring.boot.rest.api.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import spring.boot.rest.api.config.S3AsyncService;
+import spring.boot.rest.api.config.StorageObject;
+import spring.boot.rest.api.dto.request.AuthenticationRequestDto;
+import spring.boot.rest.api.dto.request.FileDownloadRequestDto;
+import spring.boot.rest.api.dto.response.AuthenticationResponseDto;
+import spring.boot.rest.api.dto.response.FileResponseDto;
+import spring.boot.rest.api.model.Role;
+import spring.boot.rest.api.model.Status;
+import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.BlobRepo;
+import spring.boot.rest.api.repository.FileRepo;
+import spring.boot.rest.api.repository.UserRepo;
+import spring.boot.rest.api.service.UserService;
+
+import java.io.ByteArrayInputStream;
+import java.io.UnsupportedEncodingException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static spring.boot.rest.api.util.HashUtil.sha256;
+import static spring.boot.rest.api.util.TestConstants.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = TEST_TEXT_STORAGE_TYPE_S3)
+@AutoConfigureMockMvc
+@ActiveProfiles(TEST_TEXT)
+class FileRestControllerV1AsyncTest {
+
+    @MockBean
+    private S3AsyncService s3AsyncService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepo userRepo;
+    @Autowired
+    private FileRepo fileRepo;
+    @Autowired
+    private BlobRepo blobRepo;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    private User userWithRoleAdmin;
+    private final Faker faker = new Faker();
+    private String tokenAdmin;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        userService.deleteAll();
+
+        userWithRoleAdmin = userRepo.save(getTestUserRoleAdmin());
+
+        tokenAdmin = authenticateRoleAdmin();
+
+        when(s3AsyncService.putObject(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(TEST_TEXT_OBJECT_URL));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userService.deleteAll();
+    }
+
+    @Test
+    void whenUploadFileAsyncThroughS3ShouldRegisterTheBlobAndReturn201Created() throws Exception {
+
+        FileResponseDto uploadedFile = mapFromResultActions(uploadFileAsync(getUniqueFile()), FileResponseDto.class);
+
+        verify(s3AsyncService).putObject(anyString(), anyString(), any());
+        assertThat(uploadedFile.getId()).isNotNull();
+        assertThat(uploadedFile.getStatus()).isEqualTo(Status.ACTIVE);
+        Long blobId = fileRepo.findById(uploadedFile.getId()).orElseThrow().getBlob().getId();
+        assertThat(blobRepo.findById(blobId).orElseThrow().getLocation()).isEqualTo(TEST_TEXT_OBJECT_URL);
+    }
+
+    @Test
+    void whenDownloadFileAsyncThroughS3ShouldPassRangeAndIfRange() throws Exception {
+        FileResponseDto uploadedFile = mapFromResultActions(uploadFileAsync(getUniqueFile()), FileResponseDto.class);
+        byte[] content = TEST_TEXT.getBytes();
+        when(s3AsyncService.getObject(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(StorageObject.builder()
+                        .contentLength(content.length)
+                        .totalLength(content.length)
+                        .eTag(TEST_TEXT_ETAG)
+                        .body(outputStream -> outputStream.write(content))
+                        .build()));
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD_ASYNC)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .header(RANGE, TEST_TEXT_RANGE_FIRST_FOUR_BYTES)
+                        .header(IF_RANGE, TEST_TEXT_ETAG)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(uploadedFile.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streamingResult = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(streamingResult))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(content));
+
+        verify(s3AsyncService).getObject(anyString(), anyString(),
+                eq(TEST_TEXT_RANGE_FIRST_FOUR_BYTES), eq(TEST_TEXT_ETAG));
+    }
+
+    @Test
+    void whenSaveFailsAfterUploadShouldReleaseTheNewBlob() throws Exception {
+        MockMultipartFile file = getUniqueFile(TEST_TEXT_TOO_LONG_FILE_NAME);
+
+        uploadFileAsyncExpectingFailure(file);
+
+        assertEquals(0, blobRepo.findBySha256(sha256(file.getInputStream())).orElseThrow().getRefCount());
+    }
+
+    @Test
+    void whenSaveFailsAfterAcquiringSharedBlobShouldReleaseTheReference() throws Exception {
+        byte[] content = UUID.randomUUID().toString().getBytes();
+        uploadFileAsync(getFile(TEST_TEXT_FILE_NAME, content));
+
+        uploadFileAsyncExpectingFailure(getFile(TEST_TEXT_TOO_LONG_FILE_NAME, content));
+
+        assertEquals(1, blobRepo.findBySha256(sha256(new ByteArrayInputStream(content))).orElseThrow().getRefCount());
+    }
+
+    private void uploadFileAsyncExpectingFailure(MockMultipartFile file) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(multipart(TEST_URL_API_V1_FILES_UPLOAD_ASYNC)
+                        .file(file)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isInternalServerError());
+    }
+
+    private ResultActions uploadFileAsync(MockMultipartFile file) throws Exception {
+        MvcResult mvcResult = mockMvc.perform(multipart(TEST_URL_API_V1_FILES_UPLOAD_ASYNC)
+                        .file(file)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isCreated());
+    }
+
+    private MockMultipartFile getUniqueFile() {
+        return getUniqueFile(TEST_TEXT_FILE_NAME);
+    }
+
+    private MockMultipartFile getUniqueFile(String fileName) {
+        return getFile(fileName, UUID.randomUUID().toString().getBytes());
+    }
+
+    private MockMultipartFile getFile(String fileName, byte[] content) {
+        return new MockMultipartFile("file", fileName, "text/plain", content);
+    }
+
+    private User getTestUserRoleAdmin() {
+        return User.builder()
+                .firstName(faker.name().firstName())
+                .lastName(faker.name().lastName())
+                .email(faker.internet().emailAddress())
+                .password(passwordEncoder.encode(TEST_TEXT_PASSWORD_USER))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .status(Status.ACTIVE)
+                .role(Role.ADMIN).build();
+    }
+
+    private <T> T mapFromResultActions(ResultActions resultActions, Class<T> aClass) throws JsonProcessingException, UnsupportedEncodingException {
+        return objectMapper.readValue(resultActions.andReturn().getResponse().getContentAsString(), aClass);
+    }
+
+    private String authenticateRoleAdmin() throws Exception {
+        MvcResult mvcResponseAuth = mockMvc.perform(post(TEST_TEXT_API_V1_AUTH_AUTHENTICATE)
+                        .content(objectMapper.writeValueAsString(AuthenticationRequestDto.builder().email(userWithRoleAdmin.getEmail()).password(TEST_TEXT_PASSWORD_USER).build()))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String contentAsString = mvcResponseAuth.getResponse().getContentAsString();
+
+        AuthenticationResponseDto result = objectMapper.readValue(contentAsString, AuthenticationResponseDto.class);
+
+        return result.getAccessToken();
+    }
+
+    private String getFileDownloadRequestDto(String location) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(FileDownloadRequestDto.builder().location(location).build());
+    }
+}
@@ -1,14 +1,21 @@
 package spring.boot.rest.api.rest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,20 +23,49 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import spring.boot.rest.api.config.FileStorage;
+import spring.boot.rest.api.config.S3Properties;
+import spring.boot.rest.api.config.StorageReaper;
 import spring.boot.rest.api.dto.request.AuthenticationRequestDto;
+import spring.boot.rest.api.dto.request.FileArchiveRequestDto;
 import spring.boot.rest.api.dto.request.FileDownloadRequestDto;
 import spring.boot.rest.api.dto.request.FileRenameRequestDto;
+import spring.boot.rest.api.dto.request.PresignedUploadCompleteRequestDto;
 import spring.boot.rest.api.dto.response.AuthenticationResponseDto;
 import spring.boot.rest.api.dto.response.FileResponseDto;
+import spring.boot.rest.api.model.Blob;
+import spring.boot.rest.api.model.Event;
+import spring.boot.rest.api.model.File;
+import spring.boot.rest.api.model.PresignedUpload;
 import spring.boot.rest.api.model.Role;
 import spring.boot.rest.api.model.Status;
 import spring.boot.rest.api.model.User;
+import spring.boot.rest.api.repository.BlobRepo;
+import spring.boot.rest.api.repository.EventRepo;
+import spring.boot.rest.api.repository.FileRepo;
+import spring.boot.rest.api.repository.PresignedUploadRepo;
 import spring.boot.rest.api.repository.UserRepo;
 import spring.boot.rest.api.service.UserService;
 
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,8 +73,19 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static spring.boot.rest.api.util.TestConstants.*;
@@ -56,7 +103,25 @@ class FileRestControllerV1Test {
     @Autowired
     private MockMvc mockMvc;
     @Autowired
+    private FileRepo fileRepo;
+    @Autowired
+    private EventRepo eventRepo;
+    @Autowired
+    private BlobRepo blobRepo;
+    @Autowired
+    private StorageReaper storageReaper;
+    @Autowired
+    private PresignedUploadRepo presignedUploadRepo;
+    @SpyBean
+    private FileStorage fileStorage;
+    @Autowired
+    private S3Properties s3Properties;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
     private User userWithRoleAdmin;
     private User userWithRoleUser;
     private final Faker faker = new Faker();
@@ -91,6 +156,25 @@ class FileRestControllerV1Test {
         assertThat(fileResponseDto.getStatus()).isEqualTo(Status.ACTIVE);
     }
 
+    @Test
+    void whenUploadFileAsyncShouldReturn201Created() throws Exception {
+
+        MvcResult mvcResult = mockMvc.perform(multipart(TEST_URL_API_V1_FILES_UPLOAD_ASYNC)
+                        .file(getFile())
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isCreated());
+
+        FileResponseDto uploadedFile = mapFromResultActions(resultActions, FileResponseDto.class);
+
+        assertThat(uploadedFile.getId()).isNotNull();
+        assertThat(uploadedFile.getName()).isEqualTo(getFile().getOriginalFilename());
+        assertThat(uploadedFile.getStatus()).isEqualTo(Status.ACTIVE);
+    }
+
     @Test
     void whenUploadFileShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -122,12 +206,38 @@ class FileRestControllerV1Test {
         FileResponseDto updatedFileResponseDto = mapFromResultActions(resultActions, FileResponseDto.class);
 
         assertEquals(updatedFileResponseDto.getId(), fileResponseDto.getId());
-        assertNotEquals(updatedFileResponseDto.getName(), fileResponseDto.getName());
-        assertNotEquals(updatedFileResponseDto.getLocation(), fileResponseDto.getLocation());
+        assertEquals(TEST_TEXT_RANDOM_FILE_NAME, updatedFileResponseDto.getName());
+        assertEquals(updatedFileResponseDto.getLocation(), fileResponseDto.getLocation());
         assertNotNull(updatedFileResponseDto.getUpdatedAt());
         assertEquals(updatedFileResponseDto.getStatus(), fileResponseDto.getStatus());
     }
 
+    @Test
+    void whenRenameFileShouldDownloadSameContentUnderNewName() throws Exception {
+
+        ResultActions renameResultActions = mockMvc.perform(put(format(TEST_URL_API_V1_FILES_ID, fileResponseDto.getId()))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileRenameRequestDtoJson()))
+                .andExpect(status().isOk());
+        FileResponseDto renamedFile = mapFromResultActions(renameResultActions, FileResponseDto.class);
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(renamedFile.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] downloadedFile = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(TEST_TEXT_RANDOM_FILE_NAME, StandardCharsets.UTF_8).build().toString()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(getFile().getBytes(), downloadedFile);
+    }
+
     @Test
     void whenRenameFileShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -207,11 +317,16 @@ class FileRestControllerV1Test {
     @Test
     void whenDownloadFileShouldReturn200() throws Exception {
 
-        ResultActions resultActions = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
                         .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
                         .contentType(APPLICATION_JSON)
                         .content(getFileDownloadRequestDto(fileResponseDto.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
+                .andExpect(header().string(ACCEPT_RANGES, TEST_TEXT_BYTES))
                 .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM));
 
         byte[] downloadedFile = resultActions.andReturn().getResponse().getContentAsByteArray();
@@ -220,6 +335,188 @@ class FileRestControllerV1Test {
         assertArrayEquals(downloadedFile, getFile().getBytes());
     }
 
+    @Test
+    void whenDownloadFileWithRangeShouldReturn206() throws Exception {
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .header(RANGE, TEST_TEXT_RANGE_FIRST_FOUR_BYTES)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(fileResponseDto.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE, format(TEST_TEXT_CONTENT_RANGE_FIRST_FOUR_BYTES, getFile().getSize())));
+
+        byte[] downloadedRange = resultActions.andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(Arrays.copyOfRange(getFile().getBytes(), 0, 4), downloadedRange);
+    }
+
+    @Test
+    void whenDownloadCachedFileWithRangeShouldReturn206() throws Exception {
+
+        MvcResult warmUpResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(fileResponseDto.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(warmUpResult))
+                .andExpect(status().isOk());
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .header(RANGE, TEST_TEXT_RANGE_FIRST_FOUR_BYTES)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(fileResponseDto.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE, format(TEST_TEXT_CONTENT_RANGE_FIRST_FOUR_BYTES, getFile().getSize())));
+
+        byte[] downloadedRange = resultActions.andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(Arrays.copyOfRange(getFile().getBytes(), 0, 4), downloadedRange);
+    }
+
+    @Test
+    void whenDownloadArchiveShouldStreamZipWithEveryRequestedFile() throws Exception {
+        FileResponseDto sameNameFile = mapFromResultActions(getUploadFile(getUniqueFile()), FileResponseDto.class);
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD_ARCHIVE)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(FileArchiveRequestDto.builder()
+                                .ids(List.of(fileResponseDto.getId(), sameNameFile.getId()))
+                                .build())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] archive = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TEST_TEXT_APPLICATION_ZIP))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+
+        assertThat(entries.keySet()).containsExactly("filename.txt", "filename (1).txt");
+        assertArrayEquals(getFile().getBytes(), entries.get("filename.txt"));
+    }
+
+    @Test
+    void whenDownloadArchiveWithNameClashingWithGeneratedOneShouldKeepEveryEntry() throws Exception {
+        FileResponseDto sameNameFile = mapFromResultActions(getUploadFile(getUniqueFile()), FileResponseDto.class);
+        FileResponseDto clashingFile = mapFromResultActions(getUploadFile(new MockMultipartFile("file",
+                TEST_TEXT_DUPLICATE_FILE_NAME, "text/plain", UUID.randomUUID().toString().getBytes())), FileResponseDto.class);
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD_ARCHIVE)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(FileArchiveRequestDto.builder()
+                                .ids(List.of(fileResponseDto.getId(), sameNameFile.getId(), clashingFile.getId()))
+                                .build())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] archive = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+            }
+        }
+
+        assertThat(names).containsExactly("filename.txt", "filename (1).txt", "filename (1) (1).txt");
+    }
+
+    @Test
+    void whenPresignDownloadOnLocalStorageShouldReturn501() throws Exception {
+
+        mockMvc.perform(get(TEST_URL_API_V1_FILES_PRESIGNED_DOWNLOAD)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(fileResponseDto.getLocation())))
+                .andExpect(status().isNotImplemented());
+    }
+
+    @Test
+    void whenCompletePresignedUploadWithoutUploadedObjectShouldReturn404() throws Exception {
+        PresignedUpload upload = reserveUpload(userWithRoleAdmin, LocalDateTime.now().plusMinutes(15));
+
+        completePresignedUpload(upload.getS3Key())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void whenCompletePresignedUploadWithKeyNotIssuedShouldReturn400() throws Exception {
+
+        completePresignedUpload(UUID.randomUUID().toString())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void whenCompletePresignedUploadOfAnotherUserShouldReturn400() throws Exception {
+        PresignedUpload upload = reserveUpload(userWithRoleUser, LocalDateTime.now().plusMinutes(15));
+        fileStorage.putObject(upload.getS3Bucket(), upload.getS3Key(), getFile().getBytes());
+
+        completePresignedUpload(upload.getS3Key())
+                .andExpect(status().isBadRequest());
+
+        assertFalse(fileRepo.existsByS3Secret(upload.getS3Key()));
+    }
+
+    @Test
+    void whenCompletePresignedUploadTwiceShouldReturn409() throws Exception {
+        PresignedUpload upload = reserveUpload(userWithRoleAdmin, LocalDateTime.now().plusMinutes(15));
+        fileStorage.putObject(upload.getS3Bucket(), upload.getS3Key(), getFile().getBytes());
+
+        completePresignedUpload(upload.getS3Key())
+                .andExpect(status().isCreated());
+        completePresignedUpload(upload.getS3Key())
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void whenPresignedUploadIsNeverCompletedShouldReclaimTheObject() throws Exception {
+        PresignedUpload upload = reserveUpload(userWithRoleAdmin, LocalDateTime.now().minusMinutes(1));
+        fileStorage.putObject(upload.getS3Bucket(), upload.getS3Key(), getFile().getBytes());
+
+        storageReaper.reclaimReleasedBefore(LocalDateTime.now());
+
+        assertTrue(presignedUploadRepo.findById(upload.getId()).isEmpty());
+        assertTrue(fileStorage.getObjectSize(upload.getS3Bucket(), upload.getS3Key()).isEmpty());
+    }
+
+    @Test
+    void whenDownloadOwnFileShouldRunSameNumberOfQueriesForAnyEventCount() throws Exception {
+        String tokenUser = authenticateRoleUser();
+
+        createEventsForUserWithRoleUser(ONE_EVENT);
+        countStatementsOfDownload(tokenUser);
+        long statementsWithOneEvent = countStatementsOfDownload(tokenUser);
+
+        createEventsForUserWithRoleUser(MANY_EVENTS);
+        long statementsWithManyEvents = countStatementsOfDownload(tokenUser);
+
+        assertEquals(statementsWithOneEvent, statementsWithManyEvents);
+    }
+
     @Test
     void whenDownloadFileShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -248,10 +545,56 @@ class FileRestControllerV1Test {
                         .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
                 .andExpect(content().contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()", is(greaterThan(0))))
+                .andExpect(jsonPath("$.items.size()", is(greaterThan(0))))
                 .andExpect(jsonPath("$", is(notNullValue())));
     }
 
+    @Test
+    void whenFindAllFilesPageByPageShouldVisitEveryFileOnce() throws Exception {
+        getUploadFile(getUniqueFile());
+        getUploadFile(getUniqueFile());
+
+        List<Long> visitedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get(TEST_URL_API_V1_FILES)
+                    .param(TEST_PARAM_SORT, TEST_TEXT_SORT_NAME)
+                    .param(TEST_PARAM_LIMIT, String.valueOf(TEST_PAGE_LIMIT))
+                    .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin);
+            if (cursor != null) {
+                request.param(TEST_PARAM_CURSOR, cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.size()", is(TEST_PAGE_LIMIT)))
+                    .andReturn();
+            JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+            visitedIds.add(page.at("/items/0/id").asLong());
+            cursor = page.hasNonNull(TEST_TEXT_NEXT_CURSOR) ? page.get(TEST_TEXT_NEXT_CURSOR).asText() : null;
+        } while (cursor != null);
+
+        assertEquals(fileRepo.count(), visitedIds.size());
+        assertEquals(visitedIds.size(), visitedIds.stream().distinct().count());
+    }
+
+    @Test
+    void whenFindAllFilesShouldNotLoadEntitiesPerRow() throws Exception {
+        getUploadFile(getUniqueFile());
+        getUploadFile(getUniqueFile());
+        countEntityLoadsOfFindAll(TEST_PAGE_LIMIT);
+
+        assertEquals(countEntityLoadsOfFindAll(TEST_PAGE_LIMIT), countEntityLoadsOfFindAll(TEST_MAX_PAGE_LIMIT));
+    }
+
+    @Test
+    void whenFindAllFilesWithInvalidCursorShouldReturn400() throws Exception {
+
+        mockMvc.perform(get(TEST_URL_API_V1_FILES)
+                        .param(TEST_PARAM_CURSOR, TEST_TEXT_INVALID_CURSOR)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void whenFindAllFilesShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -307,6 +650,73 @@ class FileRestControllerV1Test {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void whenUploadSameContentTwiceShouldShareOneBlobUntilLastFileDeleted() throws Exception {
+        MockMultipartFile uniqueFile = getUniqueFile();
+        clearInvocations(fileStorage);
+
+        FileResponseDto firstFile = mapFromResultActions(getUploadFile(uniqueFile), FileResponseDto.class);
+        FileResponseDto secondFile = mapFromResultActions(getUploadFile(uniqueFile), FileResponseDto.class);
+
+        Long blobId = fileRepo.findById(firstFile.getId()).orElseThrow().getBlob().getId();
+        Blob blob = blobRepo.findById(blobId).orElseThrow();
+        ArgumentCaptor<String> uploadedKeys = ArgumentCaptor.forClass(String.class);
+        verify(fileStorage, times(2)).putObject(anyString(), uploadedKeys.capture(), any(InputStream.class), anyLong());
+
+        assertNotEquals(firstFile.getLocation(), secondFile.getLocation());
+        assertNull(fileRepo.findById(secondFile.getId()).orElseThrow().getS3Secret());
+        assertEquals(blobId, fileRepo.findById(secondFile.getId()).orElseThrow().getBlob().getId());
+        assertEquals(2, blob.getRefCount());
+        assertEquals(List.of(blob.getS3Key()), uploadedKeys.getAllValues().stream()
+                .filter(key -> fileStorage.getObjectSize(blob.getS3Bucket(), key).isPresent())
+                .toList());
+
+        mockMvc.perform(delete(format(TEST_URL_API_V1_FILES_ID, firstFile.getId()))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        assertEquals(1, blobRepo.findById(blobId).orElseThrow().getRefCount());
+
+        mockMvc.perform(delete(format(TEST_URL_API_V1_FILES_ID, secondFile.getId()))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        assertEquals(0, blobRepo.findById(blobId).orElseThrow().getRefCount());
+
+        storageReaper.reclaimReleasedBefore(LocalDateTime.now().plusMinutes(1));
+
+        assertTrue(blobRepo.findById(blobId).isEmpty());
+        assertNotNull(fileRepo.findById(firstFile.getId()).orElseThrow().getPurgedAt());
+        assertNotNull(fileRepo.findById(secondFile.getId()).orElseThrow().getPurgedAt());
+    }
+
+    @Test
+    void whenObjectDeleteFailsShouldKeepTheBlobForTheNextSweep() throws Exception {
+        FileResponseDto uploadedFile = mapFromResultActions(getUploadFile(getUniqueFile()), FileResponseDto.class);
+        Long blobId = fileRepo.findById(uploadedFile.getId()).orElseThrow().getBlob().getId();
+        Blob blob = blobRepo.findById(blobId).orElseThrow();
+        Path objectPath = Path.of(URI.create(blob.getLocation()));
+
+        mockMvc.perform(delete(format(TEST_URL_API_V1_FILES_ID, uploadedFile.getId()))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        Files.delete(objectPath);
+        Files.createFile(Files.createDirectory(objectPath).resolve(TEST_TEXT));
+
+        storageReaper.reclaimReleasedBefore(LocalDateTime.now().plusMinutes(1));
+
+        assertTrue(blobRepo.findById(blob.getId()).isPresent());
+        assertNull(fileRepo.findById(uploadedFile.getId()).orElseThrow().getPurgedAt());
+
+        Files.delete(objectPath.resolve(TEST_TEXT));
+        storageReaper.reclaimReleasedBefore(LocalDateTime.now().plusMinutes(1));
+
+        assertTrue(blobRepo.findById(blob.getId()).isEmpty());
+        assertFalse(Files.exists(objectPath));
+        assertNotNull(fileRepo.findById(uploadedFile.getId()).orElseThrow().getPurgedAt());
+    }
+
     @Test
     void whenDeleteByIdShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -332,6 +742,90 @@ class FileRestControllerV1Test {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void whenDeleteAllShouldMarkEveryFileDeletedAndReleaseItsBlob() throws Exception {
+        FileResponseDto uploadedFile = mapFromResultActions(getUploadFile(getUniqueFile()), FileResponseDto.class);
+        Long blobId = fileRepo.findById(uploadedFile.getId()).orElseThrow().getBlob().getId();
+
+        mockMvc.perform(delete(TEST_URL_API_V1_FILES)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        assertEquals(Status.DELETED, fileRepo.findById(uploadedFile.getId()).orElseThrow().getStatus());
+        assertEquals(Status.DELETED, fileRepo.findById(fileResponseDto.getId()).orElseThrow().getStatus());
+        assertEquals(0, blobRepo.findById(blobId).orElseThrow().getRefCount());
+    }
+
+    @Test
+    void whenExportFilesShouldStreamEveryFileAcrossSeveralFlushIntervals() throws Exception {
+        List<Long> savedIds = new ArrayList<>(List.of(fileResponseDto.getId()));
+        for (int i = 0; i < TEST_EXPORT_ROWS; i++) {
+            savedIds.add(mapFromResultActions(getUploadFile(getUniqueFile()), FileResponseDto.class).getId());
+        }
+
+        List<Long> exportedIds = exportIds();
+
+        assertThat(exportedIds).containsAll(savedIds).isSorted();
+    }
+
+    @Test
+    void whenDeleteAllInSeveralChunksShouldDeleteEveryFileAndEvictLegacyObjects() throws Exception {
+        List<Long> ids = new ArrayList<>(List.of(fileResponseDto.getId()));
+        for (int i = 0; i < TEST_BULK_DELETE_ROWS; i++) {
+            ids.add(mapFromResultActions(getUploadFile(getUniqueFile()), FileResponseDto.class).getId());
+        }
+        String legacyKey = UUID.randomUUID().toString();
+        File legacyFile = fileRepo.save(File.builder()
+                .name(getFile().getOriginalFilename())
+                .s3Secret(legacyKey)
+                .s3Bucket(s3Properties.getCustomer())
+                .location(fileStorage.getObjectUrl(s3Properties.getCustomer(), legacyKey))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .status(Status.ACTIVE)
+                .build());
+        ids.add(legacyFile.getId());
+
+        mockMvc.perform(delete(TEST_URL_API_V1_FILES)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        assertThat(fileRepo.findAllById(ids))
+                .hasSize(ids.size())
+                .extracting(File::getStatus)
+                .containsOnly(Status.DELETED);
+        assertThat(fileRepo.findAllById(ids))
+                .extracting(File::getDeletedAt)
+                .doesNotContainNull();
+        verify(fileStorage).evictFromCache(legacyFile.getS3Bucket(), legacyFile.getS3Secret());
+    }
+
+    @Test
+    void whenDeletedLegacyFileIsEditedLaterShouldStillReclaimItAfterRetention() throws Exception {
+        String legacyKey = UUID.randomUUID().toString();
+        fileStorage.putObject(s3Properties.getCustomer(), legacyKey, getFile().getBytes());
+        File legacyFile = fileRepo.save(File.builder()
+                .name(getFile().getOriginalFilename())
+                .s3Secret(legacyKey)
+                .s3Bucket(s3Properties.getCustomer())
+                .location(fileStorage.getObjectUrl(s3Properties.getCustomer(), legacyKey))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .status(Status.ACTIVE)
+                .build());
+        mockMvc.perform(delete(format(TEST_URL_API_V1_FILES_ID, legacyFile.getId()))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+        File deletedFile = fileRepo.findById(legacyFile.getId()).orElseThrow();
+        deletedFile.setUpdatedAt(LocalDateTime.now().plusHours(1));
+        fileRepo.save(deletedFile);
+
+        storageReaper.reclaimReleasedBefore(LocalDateTime.now().plusMinutes(1));
+
+        assertNotNull(fileRepo.findById(legacyFile.getId()).orElseThrow().getPurgedAt());
+        assertTrue(fileStorage.getObjectSize(s3Properties.getCustomer(), legacyKey).isEmpty());
+    }
+
     @Test
     void whenDeleteAllShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -352,6 +846,10 @@ class FileRestControllerV1Test {
         return new MockMultipartFile("file", "filename.txt", "text/plain", "some text".getBytes());
     }
 
+    private MockMultipartFile getUniqueFile() {
+        return new MockMultipartFile("file", "filename.txt", "text/plain", UUID.randomUUID().toString().getBytes());
+    }
+
     private MockMultipartFile getFileUpdateContent() {
         return new MockMultipartFile("file", "filename.txt", "text/plain", "some text + added extra text".getBytes());
     }
@@ -393,8 +891,12 @@ class FileRestControllerV1Test {
     }
 
     private ResultActions getUploadFile() throws Exception {
+        return getUploadFile(getFile());
+    }
+
+    private ResultActions getUploadFile(MockMultipartFile file) throws Exception {
         return mockMvc.perform(multipart(TEST_URL_API_V1_FILES_UPLOAD)
-                        .file(getFile())
+                        .file(file)
                         .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType(APPLICATION_JSON));
@@ -432,6 +934,91 @@ class FileRestControllerV1Test {
         return mapFromResultActions(getUploadFile(), FileResponseDto.class);
     }
 
+    private void createEventsForUserWithRoleUser(int count) {
+        transactionTemplate.executeWithoutResult(transaction -> {
+            User user = userRepo.getReferenceById(userWithRoleUser.getId());
+            File file = fileRepo.getReferenceById(fileResponseDto.getId());
+            for (int i = 0; i < count; i++) {
+                eventRepo.save(Event.builder()
+                        .name(UUID.randomUUID().toString())
+                        .user(user)
+                        .file(file)
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .status(Status.ACTIVE)
+                        .build());
+            }
+        });
+    }
+
+    private PresignedUpload reserveUpload(User user, LocalDateTime expiresAt) {
+        return presignedUploadRepo.save(PresignedUpload.builder()
+                .s3Bucket(s3Properties.getCustomer())
+                .s3Key(UUID.randomUUID().toString())
+                .user(user)
+                .expiresAt(expiresAt)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .status(Status.ACTIVE)
+                .build());
+    }
+
+    private ResultActions completePresignedUpload(String key) throws Exception {
+        return mockMvc.perform(post(TEST_URL_API_V1_FILES_PRESIGNED_UPLOAD_COMPLETE)
+                .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin)
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(PresignedUploadCompleteRequestDto.builder()
+                        .key(key)
+                        .fileName(getFile().getOriginalFilename())
+                        .build())));
+    }
+
+    private List<Long> exportIds() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_EXPORT)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split(TEST_TEXT_NEW_LINE);
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            ids.add(objectMapper.readValue(line, FileResponseDto.class).getId());
+        }
+        return ids;
+    }
+
+    private long countEntityLoadsOfFindAll(int limit) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(TEST_URL_API_V1_FILES)
+                        .param(TEST_PARAM_LIMIT, String.valueOf(limit))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        return statistics.getEntityLoadCount();
+    }
+
+    private long countStatementsOfDownload(String token) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_FILES_DOWNLOAD)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + token)
+                        .contentType(APPLICATION_JSON)
+                        .content(getFileDownloadRequestDto(fileResponseDto.getLocation())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
     private String getFileDownloadRequestDto(String location) throws JsonProcessingException {
         return objectMapper.writeValueAsString(FileDownloadRequestDto.builder().location(location).build());
     }
@@ -3,6 +3,9 @@ package spring.boot.rest.api.rest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.javafaker.Faker;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import spring.boot.rest.api.dto.request.UserUpdateRequestDto;
 import spring.boot.rest.api.dto.response.AuthenticationResponseDto;
 import spring.boot.rest.api.dto.response.FileResponseDto;
 import spring.boot.rest.api.dto.response.UserResponseDto;
+import spring.boot.rest.api.jwt.UserDetailService;
 import spring.boot.rest.api.model.*;
 import spring.boot.rest.api.repository.UserRepo;
 import spring.boot.rest.api.service.EventService;
@@ -27,6 +31,8 @@ import spring.boot.rest.api.service.UserService;
 
 import java.io.UnsupportedEncodingException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.is;
@@ -35,6 +41,7 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static spring.boot.rest.api.util.TestConstants.*;
@@ -51,11 +58,15 @@ class UserRestControllerV1Test {
     @Autowired
     private UserRepo userRepo;
     @Autowired
+    private UserDetailService userDetailService;
+    @Autowired
     private PasswordEncoder passwordEncoder;
     @Autowired
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     private User userWithRoleAdmin;
     private User userWithRoleUser;
     private final Faker faker = new Faker();
@@ -163,10 +174,18 @@ class UserRestControllerV1Test {
                         .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
                 .andExpect(content().contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()", is(greaterThan(0))))
+                .andExpect(jsonPath("$.items.size()", is(greaterThan(0))))
                 .andExpect(jsonPath("$", is(notNullValue())));
     }
 
+    @Test
+    void whenFindAllShouldNotLoadUsersPerRow() throws Exception {
+        userRepo.save(getTestUserRoleUser());
+        countEntityLoadsOfFindAll(TEST_PAGE_LIMIT);
+
+        assertEquals(countEntityLoadsOfFindAll(TEST_PAGE_LIMIT), countEntityLoadsOfFindAll(TEST_MAX_PAGE_LIMIT));
+    }
+
     @Test
     void whenFindAllShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -217,6 +236,36 @@ class UserRestControllerV1Test {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void whenExportUsersShouldStreamEveryUserAcrossSeveralFlushIntervals() throws Exception {
+        List<Long> savedIds = new ArrayList<>(List.of(userWithRoleAdmin.getId(), userWithRoleUser.getId()));
+        for (int i = 0; i < TEST_EXPORT_ROWS; i++) {
+            savedIds.add(userRepo.save(getTestUserRoleUser()).getId());
+        }
+
+        List<Long> exportedIds = exportIds();
+
+        assertTrue(exportedIds.containsAll(savedIds));
+        assertEquals(exportedIds.stream().sorted().toList(), exportedIds);
+    }
+
+    @Test
+    void whenDeleteAllInSeveralChunksShouldDeleteEveryUser() throws Exception {
+        List<Long> ids = new ArrayList<>(List.of(userWithRoleAdmin.getId(), userWithRoleUser.getId()));
+        for (int i = 0; i < TEST_BULK_DELETE_ROWS; i++) {
+            ids.add(userRepo.save(getTestUserRoleUser()).getId());
+        }
+
+        mockMvc.perform(delete(TEST_URL_API_V1_USERS)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        List<User> deletedUsers = userRepo.findAllById(ids);
+        assertEquals(ids.size(), deletedUsers.size());
+        assertTrue(deletedUsers.stream().allMatch(user -> Status.DELETED.equals(user.getStatus())));
+        assertFalse(userDetailService.loadUserByUsername(userWithRoleAdmin.getEmail()).isEnabled());
+    }
+
     @Test
     void whenDeleteAllShouldReturn403JwtExceptionBecauseTokenInvalid() throws Exception {
 
@@ -261,6 +310,36 @@ class UserRestControllerV1Test {
         return new MockMultipartFile("file", "filename.txt", "text/plain", "some text".getBytes());
     }
 
+    private List<Long> exportIds() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get(TEST_URL_API_V1_USERS_EXPORT)
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String[] lines = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString().split(TEST_TEXT_NEW_LINE);
+
+        List<Long> ids = new ArrayList<>();
+        for (String line : lines) {
+            ids.add(objectMapper.readValue(line, UserResponseDto.class).getId());
+        }
+        return ids;
+    }
+
+    private long countEntityLoadsOfFindAll(int limit) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(TEST_URL_API_V1_USERS)
+                        .param(TEST_PARAM_LIMIT, String.valueOf(limit))
+                        .header(AUTHORIZATION, TEST_TEXT_BEARER + tokenAdmin))
+                .andExpect(status().isOk());
+
+        return statistics.getEntityLoadCount();
+    }
+
     private String getInvalidToken() {
         return INVALID_TOKEN;
     }